@@ -0,0 +1,59 @@
+package Waiters;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Учёт времени, сэкономленного заменой фиксированных Thread.sleep на ожидания по условию.
+ * Итог печатается один раз при завершении JVM
+ */
+public final class WaitReport {
+
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(WaitReport::printSummary, "wait-report"));
+    }
+
+    private WaitReport() {
+    }
+
+    /**
+     * Зафиксировать ожидание, заменившее sleep длительностью replacedSleepMs
+     */
+    public static void record(String label, long replacedSleepMs, long actualMs) {
+        Entry entry = ENTRIES.computeIfAbsent(label, key -> new Entry());
+        entry.count.increment();
+        entry.replacedMs.add(replacedSleepMs);
+        entry.actualMs.add(actualMs);
+    }
+
+    public static long getTotalSavedMs() {
+        return ENTRIES.values().stream()
+                .mapToLong(entry -> entry.replacedMs.sum() - entry.actualMs.sum())
+                .sum();
+    }
+
+    public static String getSummary() {
+        StringBuilder sb = new StringBuilder("=== Ожидания вместо sleep ===\n");
+        new ConcurrentSkipListMap<>(ENTRIES).forEach((label, entry) -> sb.append(String.format(
+                "%-30s вызовов: %5d, было: %7d мс, стало: %7d мс%n",
+                label, entry.count.sum(), entry.replacedMs.sum(), entry.actualMs.sum())));
+        sb.append("Итого сэкономлено: ").append(getTotalSavedMs()).append(" мс");
+        return sb.toString();
+    }
+
+    private static void printSummary() {
+        if (!ENTRIES.isEmpty()) {
+            System.out.println("\n⏳ " + getSummary());
+        }
+    }
+
+    private static class Entry {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder replacedMs = new LongAdder();
+        private final LongAdder actualMs = new LongAdder();
+    }
+}
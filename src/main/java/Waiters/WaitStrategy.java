@@ -0,0 +1,16 @@
+package Waiters;
+
+import testdata.TestDataManager;
+
+/**
+ * Режим ожиданий: IMPLICIT — старое поведение с implicitlyWait,
+ * EXPLICIT — implicit wait выключен, все ожидания через Waiter
+ */
+public enum WaitStrategy {
+    IMPLICIT,
+    EXPLICIT;
+
+    public static WaitStrategy current() {
+        return valueOf(TestDataManager.getWaitStrategy().trim().toUpperCase());
+    }
+}
@@ -1,6 +1,7 @@
 package Waiters;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -10,25 +11,73 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import testdata.TestDataManager;
 
 import java.time.Duration;
+import java.util.function.Function;
 
 public class Waiter {
 
+    /**
+     * Ставит MutationObserver и счётчик активных fetch/XHR при первом вызове,
+     * затем возвращает true, когда DOM и сеть молчат не меньше arguments[0] мс
+     */
+    private static final String DOM_IDLE_SCRIPT =
+            "var quietMs = arguments[0];" +
+            "if (!window.__autoInputIdle) {" +
+            "  var state = {last: Date.now(), pending: 0};" +
+            "  var touch = function () { state.last = Date.now(); };" +
+            "  new MutationObserver(touch).observe(document," +
+            "      {subtree: true, childList: true, attributes: true, characterData: true});" +
+            "  if (window.fetch) {" +
+            "    var originalFetch = window.fetch;" +
+            "    window.fetch = function () {" +
+            "      state.pending++; touch();" +
+            "      return originalFetch.apply(this, arguments)" +
+            "          .finally(function () { state.pending--; touch(); });" +
+            "    };" +
+            "  }" +
+            "  var originalSend = XMLHttpRequest.prototype.send;" +
+            "  XMLHttpRequest.prototype.send = function () {" +
+            "    state.pending++; touch();" +
+            "    this.addEventListener('loadend', function () { state.pending--; touch(); });" +
+            "    return originalSend.apply(this, arguments);" +
+            "  };" +
+            "  window.__autoInputIdle = state;" +
+            "  return false;" +
+            "}" +
+            "var idle = window.__autoInputIdle;" +
+            "return document.readyState === 'complete' && idle.pending <= 0 && Date.now() - idle.last >= quietMs;";
+
     private WebDriver driver;
     private final int waiterTimeout = Integer.parseInt(TestDataManager.getWaitersTimeout());
+    private final Duration pollingInterval = Duration.ofMillis(Long.parseLong(TestDataManager.getWaitersPolling()));
 
     public Waiter(WebDriver driver) {
         this.driver = driver;
     }
 
     public boolean waitForCondition(ExpectedCondition condition) {
+        return waitForCondition(condition, Duration.ofSeconds(waiterTimeout));
+    }
+
+    public boolean waitForCondition(ExpectedCondition condition, Duration timeout) {
         try {
-            new WebDriverWait(driver, Duration.ofSeconds(waiterTimeout)).until(condition);
+            newWait(timeout).until(condition);
             return true;
         } catch (TimeoutException ignored) {
             return false;
         }
     }
 
+    /**
+     * Явное ожидание с настраиваемым интервалом опроса; при таймауте бросает TimeoutException
+     */
+    public <T> T until(Function<? super WebDriver, T> condition, Duration timeout) {
+        return newWait(timeout).until(condition);
+    }
+
+    private WebDriverWait newWait(Duration timeout) {
+        return new WebDriverWait(driver, timeout, pollingInterval);
+    }
+
     public boolean waitForElementVisible(By locator) {
         return this.waitForCondition(ExpectedConditions.visibilityOfElementLocated(locator));
     }
@@ -37,4 +86,42 @@ public class Waiter {
         return this.waitForCondition(ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
-}
\ No newline at end of file
+    /**
+     * Ожидание по условию вместо фиксированного sleep; выигрыш попадает в WaitReport
+     */
+    public boolean waitInsteadOfSleep(String label, long replacedSleepMs, ExpectedCondition<?> condition) {
+        long start = System.nanoTime();
+        boolean result = waitForCondition(condition);
+        WaitReport.record(label, replacedSleepMs, (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    /**
+     * Количество элементов стало больше previousCount (например, после "Показать еще")
+     */
+    public static ExpectedCondition<Boolean> countGreaterThan(By locator, int previousCount) {
+        return driver -> driver.findElements(locator).size() > previousCount;
+    }
+
+    /**
+     * DOM не меняется и нет активных запросов в течение quiet
+     */
+    public static ExpectedCondition<Boolean> domIdle(Duration quiet) {
+        return driver -> Boolean.TRUE.equals(
+                ((JavascriptExecutor) driver).executeScript(DOM_IDLE_SCRIPT, quiet.toMillis())
+        );
+    }
+
+    /**
+     * Элемент видим и страница успокоилась (завершилась анимация появления попапа)
+     */
+    public static ExpectedCondition<WebElement> visibleAndSettled(By locator, Duration quiet) {
+        ExpectedCondition<WebElement> visible = ExpectedConditions.visibilityOfElementLocated(locator);
+        ExpectedCondition<Boolean> idle = domIdle(quiet);
+        return driver -> {
+            WebElement element = visible.apply(driver);
+            return element != null && Boolean.TRUE.equals(idle.apply(driver)) ? element : null;
+        };
+    }
+
+}
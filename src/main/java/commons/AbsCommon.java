@@ -1,9 +1,8 @@
 package commons;
 
 import Waiters.Waiter;
-import com.google.inject.Guice;
 import com.google.inject.Inject;
-import modules.ToolsGuiceModule;
+import factory.WebDriverFactory;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
@@ -11,8 +10,40 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.PageFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 public abstract class AbsCommon {
 
+    private static final long HIGHLIGHT_DURATION_MS = 250;
+
+    /**
+     * Для каждого контейнера читает поля по спецификации:
+     * "css" — текст дочернего элемента, "css@attr" — его атрибут,
+     * "@attr" — атрибут самого контейнера, "" — текст контейнера
+     */
+    private static final String EXTRACT_ROWS_SCRIPT =
+            "var containers = document.querySelectorAll(arguments[0]);" +
+            "var fields = arguments[1];" +
+            "var rows = [];" +
+            "for (var i = 0; i < containers.length; i++) {" +
+            "  var values = {};" +
+            "  for (var name in fields) {" +
+            "    var spec = fields[name];" +
+            "    var at = spec.lastIndexOf('@');" +
+            "    var css = at >= 0 ? spec.substring(0, at) : spec;" +
+            "    var el = css ? containers[i].querySelector(css) : containers[i];" +
+            "    if (!el) { values[name] = ''; }" +
+            "    else if (at >= 0) { values[name] = el.getAttribute(spec.substring(at + 1)) || ''; }" +
+            "    else { values[name] = (el.innerText || '').trim(); }" +
+            "  }" +
+            "  rows.push({element: containers[i], values: values});" +
+            "}" +
+            "return rows;";
+
     protected WebDriver driver;
 
     @Inject
@@ -24,55 +55,54 @@ public abstract class AbsCommon {
     public AbsCommon(WebDriver driver) {
         this.driver = driver;
         PageFactory.initElements(driver, this);
-        Guice.createInjector(new ToolsGuiceModule(driver)).injectMembers(this);
     }
 
     protected WebElement $(By selector) {
         return driver.findElement(selector);
     }
 
+    /**
+     * Массовое извлечение данных одним вызовом executeScript вместо findElement/getText на каждый элемент
+     */
+    @SuppressWarnings("unchecked")
+    protected List<ElementRow> extractRows(String containerCss, Map<String, String> fieldSelectors) {
+        List<Map<String, Object>> rawRows = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                .executeScript(EXTRACT_ROWS_SCRIPT, containerCss, fieldSelectors);
+
+        List<ElementRow> rows = new ArrayList<>(rawRows.size());
+        for (Map<String, Object> rawRow : rawRows) {
+            Map<String, Object> rawValues = (Map<String, Object>) rawRow.get("values");
+            Map<String, String> values = new HashMap<>(rawValues.size() * 2);
+            rawValues.forEach((field, value) -> values.put(field, value != null ? value.toString() : ""));
+
+            rows.add(new ElementRow((WebElement) rawRow.get("element"), values));
+        }
+        return rows;
+    }
+
+    /**
+     * Массовое извлечение с преобразованием строк в нужный тип
+     */
+    protected <T> List<T> extractRows(String containerCss, Map<String, String> fieldSelectors,
+                                      Function<ElementRow, T> mapper) {
+        List<ElementRow> rows = extractRows(containerCss, fieldSelectors);
+        List<T> result = new ArrayList<>(rows.size());
+        for (ElementRow row : rows) {
+            result.add(mapper.apply(row));
+        }
+        return result;
+    }
+
     public String getCurrentUrl() {
         return driver.getCurrentUrl();
     }
 
     /**
-     * Выделить элемент рамкой
+     * Выделить элемент рамкой-анимацией: тест не ждёт и не делает дополнительных запросов.
+     * Идёт через подсветку сессии, поэтому учитывает -Dhighlight.mode, включая выборку sampled
      */
     protected void highlightElement(WebElement element, String borderStyle) {
-        try {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-
-            String originalStyle = element.getAttribute("style");
-
-            js.executeScript(
-                    "arguments[0].setAttribute('style', arguments[1]);",
-                    element,
-                    "border: " + borderStyle + " !important; " +
-                            "background-color: rgba(255,255,0,0.1) !important; " +
-                            "z-index: 9999 !important;"
-            );
-
-            try {
-                Thread.sleep(250);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-
-            if (originalStyle != null) {
-                js.executeScript(
-                        "arguments[0].setAttribute('style', arguments[1]);",
-                        element,
-                        originalStyle
-                );
-            } else {
-                js.executeScript(
-                        "arguments[0].removeAttribute('style');",
-                        element
-                );
-            }
-
-        } catch (Exception e) {
-            System.out.println("Не удалось выделить элемент: " + e.getMessage());
-        }
+        WebDriverFactory.getHighlightListener(driver)
+                .ifPresent(listener -> listener.highlight(element, borderStyle, HIGHLIGHT_DURATION_MS));
     }
 }
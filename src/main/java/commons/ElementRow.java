@@ -0,0 +1,33 @@
+package commons;
+
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+
+/**
+ * Строка результата массового извлечения: элемент-контейнер и значения его полей
+ */
+public class ElementRow {
+
+    private final WebElement element;
+    private final Map<String, String> values;
+
+    public ElementRow(WebElement element, Map<String, String> values) {
+        this.element = element;
+        this.values = values;
+    }
+
+    public WebElement getElement() {
+        return element;
+    }
+
+    public String get(String field) {
+        String value = values.get(field);
+        return value != null ? value : "";
+    }
+
+    @Override
+    public String toString() {
+        return "ElementRow" + values;
+    }
+}
@@ -0,0 +1,55 @@
+package commons;
+
+import annotations.Component;
+import annotations.Path;
+import exceptions.ComponentSelectorNotValidException;
+import exceptions.PathPageNotFoundException;
+import org.openqa.selenium.By;
+
+import java.util.Optional;
+
+/**
+ * Метаданные аннотаций страниц и компонентов, вычисляемые один раз на класс:
+ * путь @Path и локатор @Component ("css:селектор")
+ */
+public final class PageMetadata {
+
+    private static final ClassValue<Optional<String>> PATHS = new ClassValue<>() {
+        @Override
+        protected Optional<String> computeValue(Class<?> type) {
+            Path path = type.getAnnotation(Path.class);
+            return path != null ? Optional.of(path.value()) : Optional.empty();
+        }
+    };
+
+    private static final ClassValue<Optional<By>> COMPONENT_LOCATORS = new ClassValue<>() {
+        @Override
+        protected Optional<By> computeValue(Class<?> type) {
+            Component component = type.getDeclaredAnnotation(Component.class);
+            return component != null ? parseSelector(component.value()) : Optional.empty();
+        }
+    };
+
+    private PageMetadata() {
+    }
+
+    public static boolean hasPath(Class<?> type) {
+        return PATHS.get(type).isPresent();
+    }
+
+    public static String getPath(Class<?> type) {
+        return PATHS.get(type).orElseThrow(() -> new PathPageNotFoundException(type));
+    }
+
+    public static By getComponentLocator(Class<?> type) {
+        return COMPONENT_LOCATORS.get(type).orElseThrow(ComponentSelectorNotValidException::new);
+    }
+
+    private static Optional<By> parseSelector(String value) {
+        int separator = value.indexOf(':');
+        if (separator > 0 && value.substring(0, separator).equals("css")) {
+            return Optional.of(By.cssSelector(value.substring(separator + 1)));
+        }
+        return Optional.empty();
+    }
+}
@@ -1,16 +1,30 @@
 package config;
 
-import io.qameta.allure.Allure;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import utils.AtomicFiles;
 
-import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Properties;
+import java.util.zip.GZIPOutputStream;
 
 public class AllureConfiguration {
 
+    /**
+     * HTML длиннее порога (-Dallure.attachments.gzip.kb, в тысячах символов) прикрепляется сжатым
+     */
+    private static final int GZIP_THRESHOLD_CHARS = Integer.getInteger("allure.attachments.gzip.kb", 256) * 1024;
+
     /**
      * Настройка Allure перед запуском тестов
      */
@@ -18,6 +32,28 @@ public class AllureConfiguration {
         System.setProperty("allure.results.directory", "target/allure-results");
         System.setProperty("allure.link.issue.pattern", "https://example.com/issue/{}");
         System.setProperty("allure.link.tms.pattern", "https://example.com/tms/{}");
+        writeEnvironment();
+    }
+
+    /**
+     * Информация о системе - один раз на запуск, в environment.properties (блок Environment отчёта)
+     */
+    private static void writeEnvironment() {
+        Properties environment = new Properties();
+        environment.setProperty("OS", System.getProperty("os.name"));
+        environment.setProperty("OS Version", System.getProperty("os.version"));
+        environment.setProperty("OS Arch", System.getProperty("os.arch"));
+        environment.setProperty("Java Version", System.getProperty("java.version"));
+        environment.setProperty("User", System.getProperty("user.name"));
+        environment.setProperty("Start Time", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+
+        try {
+            Path resultsDirectory = Paths.get(System.getProperty("allure.results.directory"));
+            Files.createDirectories(resultsDirectory);
+            AtomicFiles.write(resultsDirectory.resolve("environment.properties"), environment, null);
+        } catch (IOException e) {
+            System.err.println("Не удалось записать environment.properties: " + e.getMessage());
+        }
     }
 
     /**
@@ -31,12 +67,11 @@ public class AllureConfiguration {
 
         try {
             if (driver instanceof TakesScreenshot) {
-                byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-                Allure.addAttachment(
+                // Снимок берётся сразу, декодирование и запись - в фоне
+                String screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+                attachScreenshot(
                         name + " - " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss")),
-                        "image/png",
-                        new ByteArrayInputStream(screenshot),
-                        ".png"
+                        screenshot
                 );
                 System.out.println("📸 Скриншот сохранен: " + name);
             }
@@ -49,37 +84,38 @@ public class AllureConfiguration {
      * Прикрепить текст к отчету
      */
     public static void attachText(String name, String content) {
-        Allure.addAttachment(name, "text/plain", content);
+        AsyncAttachmentWriter.getInstance().attach(name, "text/plain", ".txt",
+                () -> content.getBytes(StandardCharsets.UTF_8));
     }
 
     /**
      * Прикрепить HTML к отчету
      */
     public static void attachHtml(String name, String html) {
-        Allure.addAttachment(name, "text/html", html);
+        if (html.length() > GZIP_THRESHOLD_CHARS) {
+            AsyncAttachmentWriter.getInstance().attachShared(name + " (gzip)", "application/gzip", ".html.gz",
+                    () -> gzip(html.getBytes(StandardCharsets.UTF_8)));
+            return;
+        }
+        AsyncAttachmentWriter.getInstance().attachShared(name, "text/html", ".html",
+                () -> html.getBytes(StandardCharsets.UTF_8));
     }
 
     /**
-     * Добавить информацию о системе
+     * Прикрепить скриншот PNG, полученный в base64; одинаковые снимки хранятся один раз
      */
-    public static void addSystemInfo() {
-        String systemInfo = String.format(
-                "=== System Information ===\n" +
-                        "OS: %s\n" +
-                        "OS Version: %s\n" +
-                        "OS Arch: %s\n" +
-                        "Java Version: %s\n" +
-                        "User: %s\n" +
-                        "Time: %s\n" +
-                        "==========================",
-                System.getProperty("os.name"),
-                System.getProperty("os.version"),
-                System.getProperty("os.arch"),
-                System.getProperty("java.version"),
-                System.getProperty("user.name"),
-                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
-        );
+    public static void attachScreenshot(String name, String base64Png) {
+        AsyncAttachmentWriter.getInstance().attachShared(name, "image/png", ".png",
+                () -> Base64.getDecoder().decode(base64Png));
+    }
 
-        attachText("System Information", systemInfo);
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
     }
 }
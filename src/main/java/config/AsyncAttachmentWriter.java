@@ -0,0 +1,242 @@
+package config;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import utils.Hashes;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Фоновая запись вложений Allure. Ссылка на вложение регистрируется на потоке теста
+ * (prepareAttachment), а подготовка байтов и запись файла выполняются в пуле.
+ * Очередь ограничена (-Dallure.attachments.queue): при переполнении запись выполняет
+ * сам поток теста, так что память не растёт. Перед завершением нужно вызвать flush().
+ * attachShared хранит вложение по SHA-256 содержимого: одинаковые вложения пишутся один раз.
+ * Хэш считается в фоне, ссылка получает итоговое имя файла позже; AttachmentLinkListener
+ * дожидается этого перед записью результата теста
+ */
+public final class AsyncAttachmentWriter {
+
+    private static final AsyncAttachmentWriter INSTANCE = new AsyncAttachmentWriter(
+            Integer.getInteger("allure.attachments.threads", 2),
+            Integer.getInteger("allure.attachments.queue", 64)
+    );
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Object flushLock = new Object();
+
+    private final Map<String, CompletableFuture<Boolean>> sharedWrites = new ConcurrentHashMap<>();
+    private final Map<String, Set<CompletableFuture<Void>>> unresolvedLinks = new ConcurrentHashMap<>();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder bytesDeduplicated = new LongAdder();
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+    private final LongAccumulator maxWriteNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::shutdown, "allure-attachments-flush"));
+    }
+
+    private AsyncAttachmentWriter(int threads, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "allure-attachment-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // Переполнение очереди или уже остановленный пул: запись выполняет вызывающий поток.
+                // CallerRunsPolicy молча выбросила бы задачу после shutdown
+                (task, pool) -> task.run());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static AsyncAttachmentWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Прикрепить вложение к текущему тесту/шагу; content вычисляется в фоне
+     */
+    public void attach(String name, String type, String fileExtension, Supplier<byte[]> content) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(name, type, fileExtension);
+
+        submit(lifecycle, source, content);
+    }
+
+    /**
+     * Вложение с адресом по содержимому. На потоке теста добавляется только ссылка с временным
+     * именем; байты, SHA-256 и запись - в фоне. Повторное вложение того же содержимого
+     * получает ссылку на уже записанный файл
+     */
+    public void attachShared(String name, String type, String fileExtension, Supplier<byte[]> content) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String suffix = "-attachment" + (fileExtension.startsWith(".") ? "" : ".") + fileExtension;
+        Attachment attachment = new Attachment().setName(name).setType(type).setSource(UUID.randomUUID() + suffix);
+
+        if (!link(lifecycle, attachment)) {
+            return;
+        }
+
+        pending.incrementAndGet();
+        CompletableFuture<Void> resolved = CompletableFuture.runAsync(
+                () -> tracked(attachment.getSource(), () -> writeShared(lifecycle, attachment, suffix, content.get())),
+                executor);
+        maxQueueDepth.accumulate(executor.getQueue().size());
+
+        lifecycle.getCurrentTestCase().ifPresent(testUuid -> {
+            Set<CompletableFuture<Void>> links =
+                    unresolvedLinks.computeIfAbsent(testUuid, key -> ConcurrentHashMap.newKeySet());
+            links.add(resolved);
+            resolved.thenRun(() -> links.remove(resolved));
+        });
+    }
+
+    /**
+     * Дождаться итоговых имён файлов у ссылок теста (вызывается перед записью результата теста)
+     */
+    public void awaitLinks(String testUuid) {
+        Set<CompletableFuture<Void>> links = unresolvedLinks.remove(testUuid);
+        if (links != null) {
+            links.forEach(CompletableFuture::join);
+        }
+    }
+
+    private void submit(AllureLifecycle lifecycle, String source, Supplier<byte[]> content) {
+        pending.incrementAndGet();
+        executor.execute(() -> tracked(source, () -> writeFile(lifecycle, source, content.get())));
+        maxQueueDepth.accumulate(executor.getQueue().size());
+    }
+
+    /**
+     * Записать содержимое под именем из хэша, если его ещё никто не записал. Если запись
+     * другого вложения с тем же содержимым не удалась, файл пишется заново, чтобы ни одна
+     * ссылка не осталась без файла
+     */
+    private void writeShared(AllureLifecycle lifecycle, Attachment attachment, String suffix, byte[] content) {
+        String source = Hashes.sha256Hex(content) + suffix;
+        attachment.setSource(source);
+
+        while (true) {
+            CompletableFuture<Boolean> claim = new CompletableFuture<>();
+            CompletableFuture<Boolean> previous = sharedWrites.putIfAbsent(source, claim);
+            if (previous == null) {
+                boolean success = false;
+                try {
+                    writeFile(lifecycle, source, content);
+                    success = true;
+                } finally {
+                    if (!success) {
+                        sharedWrites.remove(source, claim);
+                    }
+                    claim.complete(success);
+                }
+                return;
+            }
+            if (previous.join()) {
+                deduplicated.increment();
+                bytesDeduplicated.add(content.length);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Добавить ссылку на вложение в текущий шаг или тест
+     */
+    private static boolean link(AllureLifecycle lifecycle, Attachment attachment) {
+        Optional<String> current = lifecycle.getCurrentTestCaseOrStep();
+        if (current.isEmpty()) {
+            System.err.println("Вложение '" + attachment.getName() + "' пропущено: нет активного теста");
+            return false;
+        }
+
+        if (current.equals(lifecycle.getCurrentTestCase())) {
+            lifecycle.updateTestCase(current.get(), result -> result.getAttachments().add(attachment));
+        } else {
+            lifecycle.updateStep(current.get(), step -> step.getAttachments().add(attachment));
+        }
+        return true;
+    }
+
+    private void writeFile(AllureLifecycle lifecycle, String source, byte[] content) {
+        lifecycle.writeAttachment(source, new ByteArrayInputStream(content));
+        written.increment();
+    }
+
+    private void tracked(String source, Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } catch (Exception e) {
+            failed.increment();
+            System.err.println("Не удалось записать вложение Allure " + source + ": " + e.getMessage());
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            writeNanos.add(elapsed);
+            maxWriteNanos.accumulate(elapsed);
+            if (pending.decrementAndGet() == 0) {
+                synchronized (flushLock) {
+                    flushLock.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Дождаться записи всех поставленных вложений
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            while (pending.get() > 0) {
+                try {
+                    flushLock.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public String getSummary() {
+        long count = written.sum() + failed.sum();
+        return String.format("Вложения Allure: записано %d, ошибок %d, повторов не записано %d (%d КБ), "
+                        + "очередь сейчас %d (макс. %d), запись в среднем %.1f мс (макс. %.1f мс)",
+                written.sum(), failed.sum(), deduplicated.sum(), bytesDeduplicated.sum() / 1024,
+                getQueueDepth(), maxQueueDepth.get(),
+                count > 0 ? writeNanos.sum() / 1e6 / count : 0.0, maxWriteNanos.get() / 1e6);
+    }
+
+    private void shutdown() {
+        flush();
+        executor.shutdown();
+        if (written.sum() + failed.sum() > 0) {
+            System.out.println("\n📎 " + getSummary());
+        }
+    }
+}
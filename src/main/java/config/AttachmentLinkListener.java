@@ -0,0 +1,16 @@
+package config;
+
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.TestResult;
+
+/**
+ * Перед записью результата теста дожидается, пока фоновые вложения с адресом
+ * по содержимому получат итоговые имена файлов. Подключается через ServiceLoader
+ */
+public class AttachmentLinkListener implements TestLifecycleListener {
+
+    @Override
+    public void beforeTestWrite(TestResult result) {
+        AsyncAttachmentWriter.getInstance().awaitLinks(result.getUuid());
+    }
+}
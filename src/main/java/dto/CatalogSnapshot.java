@@ -0,0 +1,79 @@
+package dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Снимок каталога курсов, снятый за один проход по странице.
+ * Все запросы (ранние/поздние курсы, с датой/без даты, названия) отвечают из снимка
+ */
+public class CatalogSnapshot {
+
+    private final String pageUrl;
+    private final List<String> cardTitles;
+    private final ParsedCatalog catalog;
+
+    public CatalogSnapshot(String pageUrl, List<String> cardTitles, List<CourseDto> courses) {
+        this.pageUrl = pageUrl;
+        this.cardTitles = Collections.unmodifiableList(new ArrayList<>(cardTitles));
+        this.catalog = new ParsedCatalog(courses);
+    }
+
+    public String getPageUrl() {
+        return pageUrl;
+    }
+
+    public ParsedCatalog getCatalog() {
+        return catalog;
+    }
+
+    public List<CourseDto> getCourses() {
+        return catalog.getCourses();
+    }
+
+    public List<CourseDto> getCoursesWithDates() {
+        return catalog.getCoursesWithDates();
+    }
+
+    public List<CourseDto> getCoursesWithoutDate() {
+        return catalog.getCoursesWithoutDate();
+    }
+
+    /**
+     * Названия курсов без пустых и повторов, в порядке карточек
+     */
+    public List<String> getCourseNames() {
+        LinkedHashSet<String> names = new LinkedHashSet<>();
+        for (String title : cardTitles) {
+            if (!title.isEmpty()) {
+                names.add(title);
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * Индекс карточки с указанным названием или -1
+     */
+    public int indexOfCard(String title) {
+        return cardTitles.indexOf(title);
+    }
+
+    public int getCardCount() {
+        return cardTitles.size();
+    }
+
+    public int getDuplicatesDropped() {
+        return catalog.getDuplicatesDropped();
+    }
+
+    public List<CourseDto> getEarliestCourses() {
+        return catalog.getEarliestCourses();
+    }
+
+    public List<CourseDto> getLatestCourses() {
+        return catalog.getLatestCourses();
+    }
+}
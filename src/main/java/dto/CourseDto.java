@@ -1,28 +1,29 @@
 package dto;
 
+import utils.RussianDateParser;
+
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
 
-public class CourseDto {
+/**
+ * Курс как значение: равенство по названию, дате и URL, хэш по slug из URL вычисляется один раз
+ */
+public final class CourseDto {
     private final String title;
     private final Optional<LocalDate> startDate; // Используем Optional для даты
     private final String url;
-    private final boolean hasDate;
+    private final int hash;
 
     public CourseDto(String title, LocalDate startDate, String url) {
         this.title = title;
         this.startDate = Optional.ofNullable(startDate);
         this.url = url;
-        this.hasDate = startDate != null;
+        this.hash = slugOf(url).hashCode();
     }
 
     public CourseDto(String title, String url) {
-        this.title = title;
-        this.startDate = Optional.empty();
-        this.url = url;
-        this.hasDate = false;
+        this(title, null, url);
     }
 
     public String getTitle() {
@@ -38,44 +39,58 @@ public class CourseDto {
     }
 
     public boolean hasDate() {
-        return hasDate;
+        return startDate.isPresent();
     }
 
     /**
-     * Парсинг даты из строки
+     * Последний сегмент пути URL без query и fragment ("https://otus.ru/lessons/java/?a=1" -> "java")
      */
-    public static LocalDate parseDate(String dateString) {
-        if (dateString == null || dateString.trim().isEmpty()) {
-            return null;
+    public static String slugOf(String url) {
+        if (url == null) {
+            return "";
         }
 
-        String lowerDate = dateString.toLowerCase();
-        if (lowerDate.contains("объявлено позже") ||
-                lowerDate.contains("дата уточняется") ||
-                lowerDate.contains("будет объявлено") ||
-                lowerDate.contains("не указана")) {
-            return null;
+        int end = url.length();
+        int query = url.indexOf('?');
+        if (query >= 0) {
+            end = query;
         }
+        int fragment = url.indexOf('#');
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        while (end > 0 && url.charAt(end - 1) == '/') {
+            end--;
+        }
+        int start = url.lastIndexOf('/', end - 1) + 1;
+        return url.substring(start, end);
+    }
 
-        try {
-            String cleanDate = dateString.trim()
-                    .replace("·", "")
-                    .replace("•", "")
-                    .trim();
-
-            String[] parts = cleanDate.split("\\s+");
-            if (parts.length >= 3) {
-                String day = parts[0];
-                String month = parts[1].replace(",", "");
-                String year = parts[2];
+    /**
+     * Парсинг даты из строки вида "12 марта, 2025"; null, если даты нет
+     */
+    public static LocalDate parseDate(String dateString) {
+        return RussianDateParser.parse(dateString);
+    }
 
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d MMMM yyyy", new Locale("ru"));
-                return LocalDate.parse(day + " " + month + " " + year, formatter);
-            }
-        } catch (Exception e) {
-            System.err.println("Ошибка парсинга даты: '" + dateString + "' - " + e.getMessage());
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
         }
-        return null;
+        if (!(o instanceof CourseDto)) {
+            return false;
+        }
+        CourseDto other = (CourseDto) o;
+        return hash == other.hash
+                && Objects.equals(url, other.url)
+                && Objects.equals(title, other.title)
+                && startDate.equals(other.startDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
     }
 
     @Override
@@ -83,7 +98,7 @@ public class CourseDto {
         return String.format("Course{title='%s', startDate=%s, hasDate=%s, url='%s'}",
                 title,
                 startDate.map(LocalDate::toString).orElse("не указана"),
-                hasDate,
+                hasDate(),
                 url);
     }
 }
@@ -0,0 +1,214 @@
+package dto;
+
+import utils.RussianDateParser;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Компактное колоночное хранение курсов для больших каталогов и архивов:
+ * дата старта - int[] дней от эпохи, наличие даты - BitSet, названия и URL - индексы
+ * в пуле уникальных строк. CourseDto создаётся только по запросу
+ */
+public class CourseTable {
+
+    /**
+     * Значение в колонке дат для курса без даты
+     */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+
+    private final int size;
+    private final int[] epochDays;
+    private final BitSet hasDate;
+    private final int[] titleIds;
+    private final int[] urlIds;
+    private final String[] strings;
+
+    private CourseTable(Builder builder) {
+        this.size = builder.size;
+        this.epochDays = Arrays.copyOf(builder.epochDays, builder.size);
+        this.hasDate = (BitSet) builder.hasDate.clone();
+        this.titleIds = Arrays.copyOf(builder.titleIds, builder.size);
+        this.urlIds = Arrays.copyOf(builder.urlIds, builder.size);
+        this.strings = builder.strings.toArray(new String[0]);
+    }
+
+    public static CourseTable of(List<CourseDto> courses) {
+        Builder builder = new Builder(courses.size());
+        for (CourseDto course : courses) {
+            builder.add(course);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean hasDate(int index) {
+        return hasDate.get(index);
+    }
+
+    public int getEpochDay(int index) {
+        return epochDays[index];
+    }
+
+    public String getTitle(int index) {
+        return strings[titleIds[index]];
+    }
+
+    public String getUrl(int index) {
+        return strings[urlIds[index]];
+    }
+
+    public int getCoursesWithDateCount() {
+        return hasDate.cardinality();
+    }
+
+    /**
+     * Количество уникальных строк (названия и URL) в пуле
+     */
+    public int getDistinctStringCount() {
+        return strings.length;
+    }
+
+    /**
+     * Самая ранняя дата или NO_DATE. Простой счётный цикл по int[] без ветвлений,
+     * который JIT умеет векторизовать; NO_DATE заменяется на MAX_VALUE
+     */
+    public int minEpochDay() {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            int day = epochDays[i];
+            min = Math.min(min, day == NO_DATE ? Integer.MAX_VALUE : day);
+        }
+        return min == Integer.MAX_VALUE ? NO_DATE : min;
+    }
+
+    /**
+     * Самая поздняя дата или NO_DATE (NO_DATE = MIN_VALUE не влияет на максимум)
+     */
+    public int maxEpochDay() {
+        int max = NO_DATE;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, epochDays[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Индексы курсов с датой старта в диапазоне [fromEpochDay, toEpochDay]
+     */
+    public int[] indicesBetween(int fromEpochDay, int toEpochDay) {
+        int[] result = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int day = epochDays[i];
+            result[count] = i;
+            count += day != NO_DATE && day >= fromEpochDay && day <= toEpochDay ? 1 : 0;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    public int[] indicesOn(int epochDay) {
+        return epochDay == NO_DATE ? new int[0] : indicesBetween(epochDay, epochDay);
+    }
+
+    public List<CourseDto> getEarliestCourses() {
+        return materialize(indicesOn(minEpochDay()));
+    }
+
+    public List<CourseDto> getLatestCourses() {
+        return materialize(indicesOn(maxEpochDay()));
+    }
+
+    /**
+     * Создать CourseDto для одной строки таблицы
+     */
+    public CourseDto get(int index) {
+        if (!hasDate.get(index)) {
+            return new CourseDto(getTitle(index), getUrl(index));
+        }
+        return new CourseDto(getTitle(index), LocalDate.ofEpochDay(epochDays[index]), getUrl(index));
+    }
+
+    public List<CourseDto> materialize(int[] indices) {
+        List<CourseDto> result = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            result.add(get(index));
+        }
+        return result;
+    }
+
+    /**
+     * Построчное заполнение таблицы; одинаковые строки хранятся один раз
+     */
+    public static class Builder {
+        private int size;
+        private int[] epochDays;
+        private int[] titleIds;
+        private int[] urlIds;
+        private final BitSet hasDate = new BitSet();
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> stringIds = new HashMap<>();
+
+        public Builder() {
+            this(64);
+        }
+
+        public Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 1);
+            epochDays = new int[capacity];
+            titleIds = new int[capacity];
+            urlIds = new int[capacity];
+        }
+
+        public Builder add(CourseDto course) {
+            int epochDay = course.getStartDate()
+                    .map(date -> (int) date.toEpochDay())
+                    .orElse(NO_DATE);
+            return add(course.getTitle(), epochDay, course.getUrl());
+        }
+
+        /**
+         * Добавить курс; epochDay - NO_DATE для курса без даты
+         * (RussianDateParser.NO_DATE тоже принимается)
+         */
+        public Builder add(String title, long epochDay, String url) {
+            if (size == epochDays.length) {
+                int capacity = size * 2;
+                epochDays = Arrays.copyOf(epochDays, capacity);
+                titleIds = Arrays.copyOf(titleIds, capacity);
+                urlIds = Arrays.copyOf(urlIds, capacity);
+            }
+
+            boolean dated = epochDay != NO_DATE && epochDay != RussianDateParser.NO_DATE;
+            epochDays[size] = dated ? Math.toIntExact(epochDay) : NO_DATE;
+            hasDate.set(size, dated);
+            titleIds[size] = idOf(title);
+            urlIds[size] = idOf(url);
+            size++;
+            return this;
+        }
+
+        public CourseTable build() {
+            return new CourseTable(this);
+        }
+
+        private int idOf(String value) {
+            String key = value != null ? value : "";
+            Integer id = stringIds.get(key);
+            if (id == null) {
+                id = strings.size();
+                strings.add(key);
+                stringIds.put(key, id);
+            }
+            return id;
+        }
+    }
+}
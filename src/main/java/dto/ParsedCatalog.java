@@ -0,0 +1,122 @@
+package dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Разобранный каталог с индексами, построенными за один проход:
+ * по дате старта (отсортированный) и по названию.
+ * Ранние/поздние курсы - O(1), диапазон дат - O(log n + k), поиск по названию - O(1).
+ * Повторяющиеся карточки (например, после "Показать еще") отбрасываются при построении
+ */
+public class ParsedCatalog {
+
+    private final List<CourseDto> courses;
+    private final List<CourseDto> coursesWithDates;
+    private final List<CourseDto> coursesWithoutDate;
+    private final NavigableMap<LocalDate, List<CourseDto>> byDate;
+    private final Map<String, List<CourseDto>> byTitle;
+    private final int duplicatesDropped;
+
+    public ParsedCatalog(List<CourseDto> courses) {
+        LinkedHashSet<CourseDto> unique = new LinkedHashSet<>(courses);
+        this.courses = Collections.unmodifiableList(new ArrayList<>(unique));
+        this.duplicatesDropped = courses.size() - unique.size();
+
+        List<CourseDto> withDates = new ArrayList<>();
+        List<CourseDto> withoutDate = new ArrayList<>();
+        TreeMap<LocalDate, List<CourseDto>> dateIndex = new TreeMap<>();
+        Map<String, List<CourseDto>> titleIndex = new HashMap<>();
+
+        for (CourseDto course : this.courses) {
+            titleIndex.computeIfAbsent(course.getTitle(), key -> new ArrayList<>(1)).add(course);
+
+            LocalDate date = course.getStartDate().orElse(null);
+            if (date == null) {
+                withoutDate.add(course);
+                continue;
+            }
+
+            withDates.add(course);
+            dateIndex.computeIfAbsent(date, key -> new ArrayList<>(1)).add(course);
+        }
+
+        this.coursesWithDates = Collections.unmodifiableList(withDates);
+        this.coursesWithoutDate = Collections.unmodifiableList(withoutDate);
+        this.byDate = Collections.unmodifiableNavigableMap(dateIndex);
+        this.byTitle = Collections.unmodifiableMap(titleIndex);
+    }
+
+    public List<CourseDto> getCourses() {
+        return courses;
+    }
+
+    public List<CourseDto> getCoursesWithDates() {
+        return coursesWithDates;
+    }
+
+    public List<CourseDto> getCoursesWithoutDate() {
+        return coursesWithoutDate;
+    }
+
+    public Optional<LocalDate> getEarliestDate() {
+        return byDate.isEmpty() ? Optional.empty() : Optional.of(byDate.firstKey());
+    }
+
+    public Optional<LocalDate> getLatestDate() {
+        return byDate.isEmpty() ? Optional.empty() : Optional.of(byDate.lastKey());
+    }
+
+    public List<CourseDto> getEarliestCourses() {
+        return byDate.isEmpty() ? List.of() : Collections.unmodifiableList(byDate.firstEntry().getValue());
+    }
+
+    public List<CourseDto> getLatestCourses() {
+        return byDate.isEmpty() ? List.of() : Collections.unmodifiableList(byDate.lastEntry().getValue());
+    }
+
+    /**
+     * Курсы с датой старта в диапазоне [from, to], по возрастанию даты
+     */
+    public List<CourseDto> getCoursesBetween(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+
+        List<CourseDto> result = new ArrayList<>();
+        for (Collection<CourseDto> sameDay : byDate.subMap(from, true, to, true).values()) {
+            result.addAll(sameDay);
+        }
+        return result;
+    }
+
+    public List<CourseDto> getCoursesStartingOn(LocalDate date) {
+        List<CourseDto> result = byDate.get(date);
+        return result != null ? Collections.unmodifiableList(result) : List.of();
+    }
+
+    public List<CourseDto> findByTitle(String title) {
+        List<CourseDto> result = byTitle.get(title);
+        return result != null ? Collections.unmodifiableList(result) : List.of();
+    }
+
+    /**
+     * Сколько повторяющихся карточек отброшено при построении
+     */
+    public int getDuplicatesDropped() {
+        return duplicatesDropped;
+    }
+
+    public int size() {
+        return courses.size();
+    }
+}
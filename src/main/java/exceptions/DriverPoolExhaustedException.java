@@ -0,0 +1,8 @@
+package exceptions;
+
+public class DriverPoolExhaustedException extends RuntimeException {
+
+    public DriverPoolExhaustedException(int poolSize, long timeoutSeconds) {
+        super(String.format("No free WebDriver session in pool of %d after %d s", poolSize, timeoutSeconds));
+    }
+}
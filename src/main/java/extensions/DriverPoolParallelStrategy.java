@@ -0,0 +1,62 @@
+package extensions;
+
+import factory.WebDriverPool;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * Стратегия параллельного запуска JUnit: количество потоков = ядра * factor,
+ * но не больше размера пула браузеров, чтобы потоки не ждали свободную сессию
+ */
+public class DriverPoolParallelStrategy implements ParallelExecutionConfigurationStrategy {
+
+    private static final String FACTOR_PROPERTY = "custom.factor";
+    private static final int KEEP_ALIVE_SECONDS = 30;
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+        double factor = configurationParameters.get(FACTOR_PROPERTY, Double::valueOf).orElse(1.0);
+        int cores = Runtime.getRuntime().availableProcessors();
+        int budget = WebDriverPool.getInstance().getSize();
+
+        int parallelism = Math.max(1, Math.min((int) Math.ceil(cores * factor), budget));
+        System.out.printf("🧵 Параллельный запуск: %d потоков (ядер: %d, пул браузеров: %d)%n",
+                parallelism, cores, budget);
+
+        return new ParallelExecutionConfiguration() {
+            @Override
+            public int getParallelism() {
+                return parallelism;
+            }
+
+            @Override
+            public int getMinimumRunnable() {
+                return parallelism;
+            }
+
+            @Override
+            public int getMaxPoolSize() {
+                return parallelism;
+            }
+
+            @Override
+            public int getCorePoolSize() {
+                return parallelism;
+            }
+
+            @Override
+            public int getKeepAliveSeconds() {
+                return KEEP_ALIVE_SECONDS;
+            }
+
+            @Override
+            public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+                return pool -> true;
+            }
+        };
+    }
+}
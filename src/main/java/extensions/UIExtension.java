@@ -3,56 +3,150 @@ package extensions;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import config.AllureConfiguration;
+import config.AsyncAttachmentWriter;
+import factory.BrowserProfile;
 import factory.WebDriverFactory;
+import factory.WebDriverPool;
 import io.qameta.allure.Allure;
+import listeners.CommandMetrics;
+import listeners.CommandMetricsListener;
+import listeners.HighlightElementListener;
+import listeners.HighlightMode;
 import modules.PageGuiceModule;
 import modules.ToolsGuiceModule;
+import network.FixtureServer;
+import network.TrafficInterceptor;
+import network.TrafficStats;
+import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.NoSuchSessionException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import utils.CoursePageCache;
 
 import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
-public class UIExtension implements BeforeEachCallback, AfterEachCallback {
+public class UIExtension implements BeforeEachCallback, AfterEachCallback, AfterAllCallback {
 
-    private Injector injector;
-    private WebDriver driver;
-    private String testId;
-    private long startTime;
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(UIExtension.class);
+    private static final String DRIVER_KEY = "driver";
+    private static final String INJECTOR_KEY = "injector";
+    private static final String TEST_ID_KEY = "testId";
+    private static final String START_TIME_KEY = "startTime";
+    private static final String COURSE_CACHE_HITS_KEY = "courseCacheHits";
+    private static final String COURSE_CACHE_MISSES_KEY = "courseCacheMisses";
+
+    private static final Injector ROOT_INJECTOR = Guice.createInjector();
 
     static {
         AllureConfiguration.configure();
+        FixtureServer.startIfReplay();
+    }
+
+    /**
+     * Дочерний инжектор теста: привязки к драйверу и ленивые страницы
+     */
+    public static Injector createTestInjector(WebDriver driver) {
+        return ROOT_INJECTOR.createChildInjector(
+                new ToolsGuiceModule(driver),
+                new PageGuiceModule()
+        );
     }
 
     @Override
     public void afterEach(ExtensionContext context) throws Exception {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        WebDriver driver = store.remove(DRIVER_KEY, WebDriver.class);
+        String testId = store.remove(TEST_ID_KEY, String.class);
+        Long startTime = store.remove(START_TIME_KEY, Long.class);
+        Long courseCacheHitsBefore = store.remove(COURSE_CACHE_HITS_KEY, Long.class);
+        Long courseCacheMissesBefore = store.remove(COURSE_CACHE_MISSES_KEY, Long.class);
+        store.remove(INJECTOR_KEY);
+
         String testName = context.getDisplayName();
-        long duration = System.currentTimeMillis() - startTime;
+        long duration = startTime != null ? System.currentTimeMillis() - startTime : 0;
 
         try {
+            if (context.getExecutionException().isPresent()) {
+                replayHighlights(driver, testName);
+            }
+
             Allure.label("duration", String.valueOf(duration));
             Allure.label("test_id", testId);
             System.out.printf("⏱️  Время выполнения теста '%s': %d мс%n", testName, duration);
 
-            resetBrowserState();
+            WebDriverFactory.getTrafficInterceptor(driver).ifPresent(interceptor -> {
+                TrafficStats stats = interceptor.snapshotAndReset();
+                Allure.label("requests_blocked", String.valueOf(stats.getRequestsBlocked()));
+                Allure.label("bytes_saved", String.valueOf(stats.getBytesSaved()));
+                AllureConfiguration.attachText("Перехват сети", stats.toString());
+            });
+
+            WebDriverFactory.getCommandMetrics(driver).ifPresent(listener -> {
+                CommandMetrics metrics = listener.snapshotAndReset();
+                if (!metrics.isEmpty()) {
+                    AllureConfiguration.attachText("Команды WebDriver", metrics.toTable());
+                }
+            });
+
+            if (courseCacheHitsBefore != null && courseCacheMissesBefore != null) {
+                // Кэш общий для параллельных классов: метки - прирост счётчиков за время теста
+                CoursePageCache courseCache = CoursePageCache.getInstance();
+                long hits = courseCache.getHits() - courseCacheHitsBefore;
+                long misses = courseCache.getMisses() - courseCacheMissesBefore;
+                if (hits + misses > 0) {
+                    Allure.label("course_cache_hits", String.valueOf(hits));
+                    Allure.label("course_cache_misses", String.valueOf(misses));
+                    AllureConfiguration.attachText("Кэш страниц курсов", courseCache.getStats());
+                }
+            }
 
         } catch (Exception e) {
             System.err.println("Ошибка в afterEach: " + e.getMessage());
             AllureConfiguration.takeScreenshot(driver, "ERROR in afterEach - " + testName);
         } finally {
-            closeBrowser();
+            WebDriverFactory.getHighlightListener(driver).ifPresent(HighlightElementListener::reset);
+            releaseBrowser(driver, context.getExecutionException().filter(UIExtension::isBrowserLost).isPresent());
             System.out.println("✅ Состояние сброшено для теста: " + testName + "\n");
         }
     }
 
+    /**
+     * В режиме on-failure подсветить последние действия теста и снять скриншот
+     */
+    private static void replayHighlights(WebDriver driver, String testName) {
+        if (HighlightElementListener.getMode() != HighlightMode.ON_FAILURE) {
+            return;
+        }
+        WebDriverFactory.getHighlightListener(driver).ifPresent(listener -> {
+            int highlighted = listener.replayRecent();
+            if (highlighted > 0) {
+                AllureConfiguration.takeScreenshot(driver, "Последние действия перед ошибкой - " + testName);
+            }
+        });
+    }
+
+    /**
+     * Дописать фоновые вложения класса до того, как Allure закроет его результаты
+     */
+    @Override
+    public void afterAll(ExtensionContext context) {
+        AsyncAttachmentWriter.getInstance().flush();
+    }
+
     @Override
     public void beforeEach(ExtensionContext context) throws Exception {
-        testId = UUID.randomUUID().toString();
-        startTime = System.currentTimeMillis();
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        String testId = UUID.randomUUID().toString();
+        store.put(TEST_ID_KEY, testId);
+        store.put(START_TIME_KEY, System.currentTimeMillis());
+        store.put(COURSE_CACHE_HITS_KEY, CoursePageCache.getInstance().getHits());
+        store.put(COURSE_CACHE_MISSES_KEY, CoursePageCache.getInstance().getMisses());
 
         String testName = context.getDisplayName();
         String className = context.getTestClass().map(Class::getSimpleName).orElse("Unknown");
@@ -67,14 +161,15 @@ public class UIExtension implements BeforeEachCallback, AfterEachCallback {
 
         setupAllureForTest(className, methodName, testName, testId);
 
-        driver = WebDriverFactory.getDriver();
+        WebDriver driver = WebDriverPool.getInstance().lease();
+        store.put(DRIVER_KEY, driver);
 
         configureBrowser(driver);
+        WebDriverFactory.getTrafficInterceptor(driver).ifPresent(TrafficInterceptor::snapshotAndReset);
+        WebDriverFactory.getCommandMetrics(driver).ifPresent(CommandMetricsListener::snapshotAndReset);
 
-        injector = Guice.createInjector(
-                new PageGuiceModule(driver),
-                new ToolsGuiceModule(driver)
-        );
+        Injector injector = createTestInjector(driver);
+        store.put(INJECTOR_KEY, injector);
 
         injector.injectMembers(context.getTestInstance().get());
 
@@ -115,8 +210,6 @@ public class UIExtension implements BeforeEachCallback, AfterEachCallback {
                 testName, className, methodName, testId,
                 LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
         ));
-
-        AllureConfiguration.addSystemInfo();
     }
 
     /**
@@ -125,7 +218,9 @@ public class UIExtension implements BeforeEachCallback, AfterEachCallback {
     private void configureBrowser(WebDriver driver) {
         Allure.step("Настройка браузера", () -> {
             try {
-                driver.manage().window().maximize();
+                if (!BrowserProfile.current().hasFixedWindowSize()) {
+                    driver.manage().window().maximize();
+                }
                 driver.manage().deleteAllCookies();
                 driver.get("about:blank");
                 System.out.println("🌐 Браузер настроен и готов к работе");
@@ -137,36 +232,34 @@ public class UIExtension implements BeforeEachCallback, AfterEachCallback {
     }
 
     /**
-     * Сброс состояния браузера
+     * Возврат браузера в пул (сброс cookies, storage и переход на about:blank выполняет пул);
+     * потерянная сессия закрывается сразу, без попытки сброса
      */
-    private void resetBrowserState() {
+    private void releaseBrowser(WebDriver driver, boolean browserLost) {
         Allure.step("Сброс состояния браузера", () -> {
             try {
-                if (driver != null) {
-                    // Очистка cookies
-                    driver.manage().deleteAllCookies();
-                    driver.get("about:blank");
-
-                    System.out.println("🔄 Состояние браузера сброшено");
+                if (driver != null && browserLost) {
+                    System.out.println("💥 Сессия браузера потеряна, закрываем без возврата в пул");
+                    WebDriverPool.getInstance().invalidate(driver);
+                } else if (driver != null) {
+                    WebDriverPool.getInstance().release(driver);
                 }
             } catch (Exception e) {
-                System.err.println("Ошибка при сбросе состояния: " + e.getMessage());
+                System.err.println("Ошибка при возврате браузера в пул: " + e.getMessage());
             }
         });
     }
 
     /**
-     * Закрытие браузера
+     * Тест упал из-за того, что браузер или сессия недоступны
      */
-    private void closeBrowser() {
-        try {
-            if (driver != null) {
-                driver.quit();
-                driver = null;
+    private static boolean isBrowserLost(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof NoSuchSessionException || cause instanceof UnreachableBrowserException) {
+                return true;
             }
-        } catch (Exception e) {
-            System.err.println("Ошибка при закрытии браузера: " + e.getMessage());
         }
+        return false;
     }
 
 }
@@ -3,21 +3,83 @@ package factory;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxOptions;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 public class BrowserOptionsFactory {
 
     public static ChromeOptions getChromeOptions() {
+        return getChromeOptions(BrowserProfile.current());
+    }
+
+    public static ChromeOptions getChromeOptions(BrowserProfile profile) {
         ChromeOptions options = new ChromeOptions();
-        options.addArguments(
-                "--start-maximized"
-        );
+        options.setPageLoadStrategy(profile.getPageLoadStrategy());
+
+        if (profile.hasFixedWindowSize()) {
+            options.addArguments("--window-size=" + profile.getWindowSize());
+        } else {
+            options.addArguments("--start-maximized");
+        }
+
+        if (profile.isHeadless()) {
+            options.addArguments("--headless=new");
+        }
+
+        if (profile.isExtensionsDisabled()) {
+            options.addArguments("--disable-extensions");
+        }
+
+        if (profile.isImagesDisabled()) {
+            Map<String, Object> prefs = new HashMap<>();
+            prefs.put("profile.managed_default_content_settings.images", 2);
+            options.setExperimentalOption("prefs", prefs);
+            options.addArguments("--blink-settings=imagesEnabled=false");
+        }
+
+        if (profile.isAnalyticsBlocked()) {
+            String rules = BrowserProfile.BLOCKED_HOSTS.stream()
+                    .map(host -> "MAP " + host + " ~NOTFOUND")
+                    .collect(Collectors.joining(", "));
+            options.addArguments("--host-resolver-rules=" + rules);
+        }
+
         return options;
     }
 
     public static FirefoxOptions getFirefoxOptions() {
+        return getFirefoxOptions(BrowserProfile.current());
+    }
+
+    public static FirefoxOptions getFirefoxOptions(BrowserProfile profile) {
         FirefoxOptions options = new FirefoxOptions();
-        options.addArguments(
-                "--start-maximized"
-        );
+        options.setPageLoadStrategy(profile.getPageLoadStrategy());
+
+        if (profile.hasFixedWindowSize()) {
+            String[] size = profile.getWindowSize().split(",");
+            options.addArguments("--width=" + size[0], "--height=" + size[1]);
+        } else {
+            options.addArguments("--start-maximized");
+        }
+
+        if (profile.isHeadless()) {
+            options.addArguments("-headless");
+        }
+
+        if (profile.isExtensionsDisabled()) {
+            options.addPreference("extensions.enabledScopes", 0);
+        }
+
+        if (profile.isImagesDisabled()) {
+            options.addPreference("permissions.default.image", 2);
+        }
+
+        if (profile.isAnalyticsBlocked()) {
+            // Хосты резолвятся в localhost, запросы к ним сразу падают
+            options.addPreference("network.dns.localDomains", String.join(",", BrowserProfile.BLOCKED_HOSTS));
+        }
+
         return options;
     }
 }
@@ -0,0 +1,122 @@
+package factory;
+
+import org.openqa.selenium.PageLoadStrategy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Именованные профили браузера (-Dbrowser.profile=...).
+ * Ожидаемые времена старта и загрузки страницы нужны для планирования числа браузеров на ядро в CI;
+ * у DEFAULT время загрузки не задано, и таймаут загрузки страницы остаётся стандартным для Selenium
+ */
+public enum BrowserProfile {
+
+    DEFAULT(false, false, false, PageLoadStrategy.NORMAL, false, null, 4000, 0),
+    HEADLESS(true, false, false, PageLoadStrategy.NORMAL, false, "1920,1080", 2500, 5000),
+    FAST(true, true, true, PageLoadStrategy.EAGER, true, "1920,1080", 1500, 2500),
+    MINIMAL(true, true, true, PageLoadStrategy.NONE, true, "1366,768", 1200, 1500);
+
+    /**
+     * Сторонние хосты аналитики, которые не нужны тестам
+     */
+    public static final List<String> BLOCKED_HOSTS = List.of(
+            "www.google-analytics.com",
+            "www.googletagmanager.com",
+            "stats.g.doubleclick.net",
+            "mc.yandex.ru",
+            "top-fwz1.mail.ru",
+            "connect.facebook.net",
+            "vk.com"
+    );
+
+    private final boolean headless;
+    private final boolean imagesDisabled;
+    private final boolean extensionsDisabled;
+    private final PageLoadStrategy pageLoadStrategy;
+    private final boolean analyticsBlocked;
+    private final String windowSize;
+    private final long expectedStartupMs;
+    private final long expectedPageLoadMs;
+
+    BrowserProfile(boolean headless, boolean imagesDisabled, boolean extensionsDisabled,
+                   PageLoadStrategy pageLoadStrategy, boolean analyticsBlocked, String windowSize,
+                   long expectedStartupMs, long expectedPageLoadMs) {
+        this.headless = headless;
+        this.imagesDisabled = imagesDisabled;
+        this.extensionsDisabled = extensionsDisabled;
+        this.pageLoadStrategy = pageLoadStrategy;
+        this.analyticsBlocked = analyticsBlocked;
+        this.windowSize = windowSize;
+        this.expectedStartupMs = expectedStartupMs;
+        this.expectedPageLoadMs = expectedPageLoadMs;
+    }
+
+    /**
+     * Профиль из свойства; неизвестное имя заменяется DEFAULT с предупреждением
+     */
+    public static BrowserProfile current() {
+        String name = System.getProperty("browser.profile", "default");
+        try {
+            return valueOf(name.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠️ Неизвестный профиль браузера '" + name
+                    + "', используется default (допустимо: default, headless, fast, minimal)");
+            return DEFAULT;
+        }
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public boolean isImagesDisabled() {
+        return imagesDisabled;
+    }
+
+    public boolean isExtensionsDisabled() {
+        return extensionsDisabled;
+    }
+
+    public PageLoadStrategy getPageLoadStrategy() {
+        return pageLoadStrategy;
+    }
+
+    public boolean isAnalyticsBlocked() {
+        return analyticsBlocked;
+    }
+
+    public boolean hasFixedWindowSize() {
+        return windowSize != null;
+    }
+
+    /**
+     * Размер окна в формате "ширина,высота" или null, если окно разворачивается
+     */
+    public String getWindowSize() {
+        return windowSize;
+    }
+
+    public long getExpectedStartupMs() {
+        return expectedStartupMs;
+    }
+
+    /**
+     * Ожидаемое время загрузки страницы, 0 - не задано
+     */
+    public long getExpectedPageLoadMs() {
+        return expectedPageLoadMs;
+    }
+
+    /**
+     * Таймаут загрузки страницы: ожидаемое время профиля с запасом (-Dpage.load.timeout.factor, по умолчанию 5);
+     * пусто, если ожидаемое время не задано
+     */
+    public Optional<Duration> getPageLoadTimeout() {
+        if (expectedPageLoadMs <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofMillis(expectedPageLoadMs * Long.getLong("page.load.timeout.factor", 5)));
+    }
+}
@@ -1,19 +1,29 @@
 package factory;
 
+import Waiters.WaitStrategy;
 import exceptions.BrowserNotSupportedException;
 import listeners.AllureListener;
+import listeners.CommandMetricsListener;
 import listeners.HighlightElementListener;
+import listeners.HighlightMode;
+import network.TrafficInterceptor;
 import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.remote.DesiredCapabilities;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public class WebDriverFactory {
 
@@ -21,40 +31,130 @@ public class WebDriverFactory {
     private static final String browserName = System.getProperty("browser", "chrome");
     private static final String browserVersion = System.getProperty("browser.version");
 
+    private static final Map<WebDriver, TrafficInterceptor> interceptors =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private static final Map<WebDriver, HighlightElementListener> highlighters =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private static final Map<WebDriver, CommandMetricsListener> commandMetrics =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
     public static WebDriver getDriver() throws MalformedURLException {
         return getDriver(browserName);
     }
 
     public static WebDriver getDriver(String webDriverName) throws MalformedURLException {
         WebDriver driver;
+        BrowserProfile profile = BrowserProfile.current();
+        long startupStart = System.currentTimeMillis();
 
         if (!remoteUrl.isEmpty()) {
-            MutableCapabilities mutableCapabilities = new DesiredCapabilities();
-            mutableCapabilities.setCapability("browserName", browserName);
-            mutableCapabilities.setCapability("browserVersion", browserVersion);
-            driver = new RemoteWebDriver(new URL(remoteUrl), mutableCapabilities);
+            // Удалённый браузер получает те же опции профиля, что и локальный
+            MutableCapabilities options;
+            switch (webDriverName.toLowerCase()) {
+                case "chrome":
+                    options = BrowserOptionsFactory.getChromeOptions(profile);
+                    break;
+                case "firefox":
+                    options = BrowserOptionsFactory.getFirefoxOptions(profile);
+                    break;
+                default:
+                    throw new BrowserNotSupportedException(webDriverName);
+            }
+            if (browserVersion != null) {
+                options.setCapability("browserVersion", browserVersion);
+            }
+            driver = new RemoteWebDriver(new URL(remoteUrl), options);
         } else {
             switch (webDriverName.toLowerCase()) {
                 case "chrome":
-                    driver = new ChromeDriver(BrowserOptionsFactory.getChromeOptions());
+                    driver = new ChromeDriver(BrowserOptionsFactory.getChromeOptions(profile));
                     break;
                 case "firefox":
-                    driver = new FirefoxDriver(BrowserOptionsFactory.getFirefoxOptions());
+                    driver = new FirefoxDriver(BrowserOptionsFactory.getFirefoxOptions(profile));
                     break;
                 default:
                     throw new BrowserNotSupportedException(webDriverName);
             }
         }
 
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(15));
-        driver.manage().window().maximize();
+        Duration implicitWait = WaitStrategy.current() == WaitStrategy.IMPLICIT
+                ? Duration.ofSeconds(15)
+                : Duration.ZERO;
+        driver.manage().timeouts().implicitlyWait(implicitWait);
+        Optional<Duration> pageLoadTimeout = profile.getPageLoadTimeout();
+        if (pageLoadTimeout.isPresent()) {
+            driver.manage().timeouts().pageLoadTimeout(pageLoadTimeout.get());
+        }
+        if (!profile.hasFixedWindowSize()) {
+            driver.manage().window().maximize();
+        }
+
+        long startupMs = System.currentTimeMillis() - startupStart;
+        System.out.printf("🧭 Профиль браузера %s: старт %d мс (ожидается до %d мс), таймаут загрузки %s%n",
+                profile, startupMs, profile.getExpectedStartupMs(),
+                pageLoadTimeout.map(timeout -> timeout.toMillis() + " мс").orElse("по умолчанию"));
 
-        HighlightElementListener highlightListener = new HighlightElementListener(driver);
-        AllureListener allureListener = new AllureListener(driver);
+        Optional<TrafficInterceptor> interceptor = TrafficInterceptor.install(driver);
 
-        driver = new EventFiringDecorator<>(highlightListener, allureListener)
-                .decorate(driver);
+        List<WebDriverListener> listeners = new ArrayList<>();
+        HighlightElementListener highlightListener = null;
+        if (HighlightElementListener.getMode() != HighlightMode.OFF) {
+            highlightListener = new HighlightElementListener(driver);
+            listeners.add(highlightListener);
+        }
+        listeners.add(new AllureListener(driver));
+        CommandMetricsListener metricsListener = null;
+        if (CommandMetricsListener.isEnabled()) {
+            metricsListener = new CommandMetricsListener();
+            listeners.add(metricsListener);
+        }
+
+        driver = new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
+
+        WebDriver decorated = driver;
+        interceptor.ifPresent(value -> interceptors.put(decorated, value));
+        if (highlightListener != null) {
+            highlighters.put(decorated, highlightListener);
+        }
+        if (metricsListener != null) {
+            commandMetrics.put(decorated, metricsListener);
+        }
 
         return driver;
     }
+
+    /**
+     * Перехватчик сети, установленный на сессию (если -Dnetwork.intercept=true)
+     */
+    public static Optional<TrafficInterceptor> getTrafficInterceptor(WebDriver driver) {
+        return Optional.ofNullable(interceptors.get(driver));
+    }
+
+    /**
+     * Подсветка элементов сессии (нет, если -Dhighlight.mode=off)
+     */
+    public static Optional<HighlightElementListener> getHighlightListener(WebDriver driver) {
+        return Optional.ofNullable(highlighters.get(driver));
+    }
+
+    /**
+     * Замер команд WebDriver сессии (нет, если -Dmetrics.commands=false)
+     */
+    public static Optional<CommandMetricsListener> getCommandMetrics(WebDriver driver) {
+        return Optional.ofNullable(commandMetrics.get(driver));
+    }
+
+    /**
+     * Освободить ресурсы, привязанные к сессии, перед quit()
+     */
+    public static void releaseResources(WebDriver driver) {
+        highlighters.remove(driver);
+        commandMetrics.remove(driver);
+        TrafficInterceptor interceptor = interceptors.remove(driver);
+        if (interceptor != null) {
+            interceptor.close();
+        }
+    }
 }
@@ -0,0 +1,211 @@
+package factory;
+
+import exceptions.DriverPoolExhaustedException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.MalformedURLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ограниченный пул сессий WebDriver: выдача в аренду, возврат со сбросом состояния,
+ * проверка живости и вытеснение сессий после -Ddriver.pool.max.reuse использований
+ */
+public class WebDriverPool {
+
+    /**
+     * По умолчанию столько же, сколько задаёт pom (driver.pool.size), чтобы запуск из IDE не отличался от mvn test
+     */
+    private static final int POOL_SIZE = Integer.getInteger("driver.pool.size", 3);
+    private static final int MAX_REUSE = Integer.getInteger("driver.pool.max.reuse", 25);
+    private static final long LEASE_TIMEOUT_SECONDS = Long.getLong("driver.pool.lease.timeout", 120L);
+
+    private static final WebDriverPool INSTANCE = new WebDriverPool(POOL_SIZE, MAX_REUSE);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::shutdown, "webdriver-pool-shutdown"));
+    }
+
+    private final int size;
+    private final int reuseLimit;
+    private final Semaphore permits;
+    private final Deque<PooledDriver> idle = new ConcurrentLinkedDeque<>();
+    private final Map<WebDriver, PooledDriver> leased = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    WebDriverPool(int size, int reuseLimit) {
+        this.size = size;
+        this.reuseLimit = reuseLimit;
+        this.permits = new Semaphore(size, true);
+    }
+
+    public static WebDriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Максимальное количество одновременно открытых сессий
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Взять сессию из пула (или запустить новую, если свободных нет)
+     */
+    public WebDriver lease() throws MalformedURLException {
+        acquirePermit();
+
+        try {
+            PooledDriver pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (isHealthy(pooled.driver)) {
+                    break;
+                }
+                System.out.println("♻️ Сессия не прошла проверку и будет закрыта");
+                quitQuietly(pooled.driver);
+            }
+
+            if (pooled == null) {
+                pooled = new PooledDriver(WebDriverFactory.getDriver());
+                System.out.println("🚗 Запущена новая сессия браузера для пула");
+            } else {
+                System.out.println("🔁 Переиспользуем сессию браузера (использований: " + pooled.leases + ")");
+            }
+
+            pooled.leases++;
+            leased.put(pooled.driver, pooled);
+            return pooled.driver;
+        } catch (RuntimeException | MalformedURLException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Вернуть сессию в пул. Состояние браузера сбрасывается, сессии с исчерпанным
+     * лимитом использований или не прошедшие сброс закрываются
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            quitQuietly(driver);
+            return;
+        }
+
+        try {
+            if (pooled.leases >= reuseLimit) {
+                System.out.println("♻️ Сессия достигла лимита использований (" + reuseLimit + ") и будет закрыта");
+                quitQuietly(driver);
+            } else if (!resetState(driver)) {
+                quitQuietly(driver);
+            } else {
+                idle.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Закрыть сессию без возврата в пул (например, после падения браузера)
+     */
+    public void invalidate(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+
+        if (leased.remove(driver) != null) {
+            permits.release();
+        }
+        quitQuietly(driver);
+    }
+
+    /**
+     * Закрыть все свободные сессии
+     */
+    public void shutdown() {
+        List<PooledDriver> drivers = new ArrayList<>();
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            drivers.add(pooled);
+        }
+        drivers.forEach(item -> quitQuietly(item.driver));
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(LEASE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new DriverPoolExhaustedException(size, LEASE_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DriverPoolExhaustedException(size, LEASE_TIMEOUT_SECONDS);
+        }
+    }
+
+    /**
+     * Проверка живости сессии: один лёгкий запрос к драйверу
+     */
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Сброс состояния браузера: storage, cookies, about:blank
+     */
+    private boolean resetState(WebDriver driver) {
+        try {
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                        "window.localStorage.clear(); window.sessionStorage.clear();"
+                );
+            } catch (Exception ignored) {
+                // about:blank и страницы без storage
+            }
+
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+
+            System.out.println("🔄 Состояние браузера сброшено");
+            return true;
+        } catch (Exception e) {
+            System.err.println("Ошибка при сбросе состояния: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            WebDriverFactory.releaseResources(driver);
+            driver.quit();
+        } catch (Exception e) {
+            System.err.println("Ошибка при закрытии браузера: " + e.getMessage());
+        }
+    }
+
+    private static class PooledDriver {
+        private final WebDriver driver;
+        private int leases;
+
+        PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package listeners;
 
-import io.qameta.allure.Allure;
+import config.AllureConfiguration;
 import io.qameta.allure.Attachment;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
@@ -8,7 +8,6 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.events.WebDriverListener;
 
-import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 
 public class AllureListener implements WebDriverListener {
@@ -20,27 +19,17 @@ public class AllureListener implements WebDriverListener {
     }
 
     /**
-     * Прикрепить скриншот к Allure отчету
-     */
-    @Attachment(value = "Скриншот при ошибке", type = "image/png")
-    public byte[] takeScreenshot() {
-        return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-    }
-
-    /**
-     * Прикрепить скриншот как байты
+     * Прикрепить скриншот: снимок берётся на потоке теста, декодирование и запись - в фоне
      */
     public void attachScreenshot(String name) {
-        Allure.addAttachment(name, "image/png",
-                new ByteArrayInputStream(takeScreenshot()), "png");
+        AllureConfiguration.attachScreenshot(name, ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64));
     }
 
     /**
-     * Прикрепить HTML страницы
+     * Прикрепить HTML страницы (запись в фоне)
      */
-    @Attachment(value = "HTML страницы", type = "text/html")
-    public String attachPageHtml() {
-        return driver.getPageSource();
+    public void attachPageHtml() {
+        AllureConfiguration.attachHtml("HTML страницы", driver.getPageSource());
     }
 
     /**
@@ -71,7 +60,7 @@ public class AllureListener implements WebDriverListener {
      * Обработка исключений в тестах
      */
     public void onTestFailure(Throwable throwable) {
-        takeScreenshot();
+        attachScreenshot("Скриншот при ошибке");
         attachPageHtml();
 
         attachText("Ошибка теста", throwable.getMessage());
@@ -0,0 +1,201 @@
+package listeners;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Гистограммы длительности команд WebDriver (мкс) в разрезе команды, страницы и локатора.
+ * Умеет выдать таблицу для Allure, JSON и текст в формате Prometheus
+ */
+public final class CommandMetrics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final int TABLE_ROWS = 30;
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private final AtomicReference<Map<Key, Stat>> stats = new AtomicReference<>(new ConcurrentHashMap<>());
+
+    public void record(String command, String page, String locator, long micros) {
+        stats.get().computeIfAbsent(new Key(command, page, locator), key -> new Stat()).record(micros);
+    }
+
+    public boolean isEmpty() {
+        return stats.get().isEmpty();
+    }
+
+    /**
+     * Забрать накопленное и начать заново (per-test при переиспользовании сессии)
+     */
+    public CommandMetrics snapshotAndReset() {
+        CommandMetrics snapshot = new CommandMetrics();
+        snapshot.stats.set(stats.getAndSet(new ConcurrentHashMap<>()));
+        return snapshot;
+    }
+
+    /**
+     * Самые затратные по суммарному времени строки
+     */
+    public String toTable() {
+        List<Map.Entry<Key, Stat>> rows = sortedByTotal();
+        long totalMicros = rows.stream().mapToLong(row -> row.getValue().totalMicros.sum()).sum();
+        long commands = rows.stream().mapToLong(row -> row.getValue().histogram.getTotalCount()).sum();
+
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+                "Команд WebDriver: %d, суммарно %.1f мс%n", commands, totalMicros / 1000.0));
+        sb.append(String.format("%-18s %-22s %7s %9s %9s %9s %9s %10s  %s%n",
+                "команда", "страница", "вызовов", "p50 мс", "p90 мс", "p99 мс", "max мс", "всего мс", "локатор"));
+        for (Map.Entry<Key, Stat> row : rows.subList(0, Math.min(TABLE_ROWS, rows.size()))) {
+            Histogram histogram = row.getValue().histogram;
+            sb.append(String.format(Locale.ROOT, "%-18s %-22s %7d %9.1f %9.1f %9.1f %9.1f %10.1f  %s%n",
+                    row.getKey().command, row.getKey().page, histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMaxValue() / 1000.0,
+                    row.getValue().totalMicros.sum() / 1000.0,
+                    row.getKey().locator));
+        }
+        if (rows.size() > TABLE_ROWS) {
+            sb.append("... ещё строк: ").append(rows.size() - TABLE_ROWS).append('\n');
+        }
+        return sb.toString();
+    }
+
+    public String toJson() {
+        StringBuilder sb = new StringBuilder("[\n");
+        List<Map.Entry<Key, Stat>> rows = sortedByTotal();
+        for (int i = 0; i < rows.size(); i++) {
+            Key key = rows.get(i).getKey();
+            Histogram histogram = rows.get(i).getValue().histogram;
+            sb.append(String.format(Locale.ROOT,
+                    "  {\"command\": \"%s\", \"page\": \"%s\", \"locator\": \"%s\", \"count\": %d, "
+                            + "\"p50Ms\": %.3f, \"p90Ms\": %.3f, \"p99Ms\": %.3f, \"maxMs\": %.3f, \"totalMs\": %.3f}",
+                    escapeJson(key.command), escapeJson(key.page), escapeJson(key.locator),
+                    histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMaxValue() / 1000.0,
+                    rows.get(i).getValue().totalMicros.sum() / 1000.0));
+            sb.append(i < rows.size() - 1 ? ",\n" : "\n");
+        }
+        return sb.append("]\n").toString();
+    }
+
+    public String toPrometheus() {
+        StringBuilder sb = new StringBuilder()
+                .append("# HELP webdriver_command_duration_seconds WebDriver command latency\n")
+                .append("# TYPE webdriver_command_duration_seconds summary\n");
+        for (Map.Entry<Key, Stat> row : sortedByTotal()) {
+            String labels = "command=\"" + escapeLabel(row.getKey().command)
+                    + "\",page=\"" + escapeLabel(row.getKey().page)
+                    + "\",locator=\"" + escapeLabel(row.getKey().locator) + "\"";
+            Histogram histogram = row.getValue().histogram;
+            for (double quantile : QUANTILES) {
+                sb.append(String.format(Locale.ROOT, "webdriver_command_duration_seconds{%s,quantile=\"%s\"} %.6f%n",
+                        labels, quantile, histogram.getValueAtPercentile(quantile * 100) / 1e6));
+            }
+            sb.append(String.format(Locale.ROOT, "webdriver_command_duration_seconds_sum{%s} %.6f%n",
+                    labels, row.getValue().totalMicros.sum() / 1e6));
+            sb.append(String.format(Locale.ROOT, "webdriver_command_duration_seconds_count{%s} %d%n",
+                    labels, histogram.getTotalCount()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Записать webdriver-commands.json и webdriver-commands.prom в каталог
+     */
+    public void export(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("webdriver-commands.json"), toJson(), StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve("webdriver-commands.prom"), toPrometheus(), StandardCharsets.UTF_8);
+    }
+
+    private List<Map.Entry<Key, Stat>> sortedByTotal() {
+        List<Map.Entry<Key, Stat>> rows = new ArrayList<>(stats.get().entrySet());
+        rows.sort(Comparator.comparingLong((Map.Entry<Key, Stat> row) -> row.getValue().totalMicros.sum()).reversed());
+        return rows;
+    }
+
+    private static String escapeJson(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static final class Key {
+        private final String command;
+        private final String page;
+        private final String locator;
+        private final int hash;
+
+        private Key(String command, String page, String locator) {
+            this.command = command;
+            this.page = page;
+            this.locator = locator;
+            this.hash = Objects.hash(command, page, locator);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return command.equals(other.command) && page.equals(other.page) && locator.equals(other.locator);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Stat {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder totalMicros = new LongAdder();
+
+        private void record(long micros) {
+            histogram.recordValue(Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_MICROS));
+            totalMicros.add(micros);
+        }
+    }
+}
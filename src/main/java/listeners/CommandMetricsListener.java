@@ -0,0 +1,164 @@
+package listeners;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Замер длительности каждой команды WebDriver (findElement, getText, executeScript, get, ...)
+ * в разрезе страницы (первый кадр стека из pages/components) и локатора.
+ * Накапливает данные за тест и за весь прогон; итог прогона выгружается в -Dmetrics.dir
+ * (по умолчанию target/metrics) при завершении JVM. Отключается -Dmetrics.commands=false
+ */
+public class CommandMetricsListener implements WebDriverListener {
+
+    private static final boolean enabled = Boolean.parseBoolean(System.getProperty("metrics.commands", "true"));
+    private static final Path exportDir = Paths.get(System.getProperty("metrics.dir", "target/metrics"));
+    private static final int MAX_LOCATOR_LENGTH = 120;
+    private static final String NO_PAGE = "-";
+    private static final String NO_LOCATOR = "-";
+
+    private static final CommandMetrics RUN_METRICS = new CommandMetrics();
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(CommandMetricsListener::exportRunMetrics, "command-metrics"));
+    }
+
+    private final CommandMetrics testMetrics = new CommandMetrics();
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Map<Object, String> elementLocators = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static CommandMetrics getRunMetrics() {
+        return RUN_METRICS;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (method.getDeclaringClass() != Object.class) {
+            startTimes.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        if (method.getDeclaringClass() == Object.class) {
+            return;
+        }
+        Long start = startTimes.get().poll();
+        if (start == null) {
+            return;
+        }
+
+        String locator = locatorOf(target, args);
+        rememberLocator(result, locator);
+        record(method.getName(), locator, (System.nanoTime() - start) / 1000);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        if (method.getDeclaringClass() == Object.class) {
+            return;
+        }
+        Long start = startTimes.get().poll();
+        if (start != null) {
+            record(method.getName() + " (ошибка)", locatorOf(target, args), (System.nanoTime() - start) / 1000);
+        }
+    }
+
+    /**
+     * Команды с момента предыдущего вызова (per-test при переиспользовании сессии)
+     */
+    public CommandMetrics snapshotAndReset() {
+        return testMetrics.snapshotAndReset();
+    }
+
+    private void record(String command, String locator, long micros) {
+        String page = currentPage();
+        testMetrics.record(command, page, locator, micros);
+        RUN_METRICS.record(command, page, locator, micros);
+    }
+
+    /**
+     * Локатор команды: аргумент By для поиска, иначе локатор, которым был найден элемент
+     */
+    private String locatorOf(Object target, Object[] args) {
+        if (args != null && args.length > 0 && args[0] instanceof By) {
+            return truncate(args[0].toString());
+        }
+        if (target instanceof WebElement) {
+            return elementLocators.getOrDefault(unwrap(target), NO_LOCATOR);
+        }
+        return NO_LOCATOR;
+    }
+
+    private void rememberLocator(Object result, String locator) {
+        if (NO_LOCATOR.equals(locator)) {
+            return;
+        }
+        if (result instanceof WebElement) {
+            elementLocators.put(unwrap(result), locator);
+        } else if (result instanceof List<?> list) {
+            for (Object element : list) {
+                if (element instanceof WebElement) {
+                    elementLocators.put(unwrap(element), locator);
+                }
+            }
+        }
+    }
+
+    private static Object unwrap(Object element) {
+        return element instanceof WrapsElement ? ((WrapsElement) element).getWrappedElement() : element;
+    }
+
+    /**
+     * Ближайший page object или компонент в стеке вызова
+     */
+    private static String currentPage() {
+        return STACK_WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getClassName)
+                .filter(name -> name.startsWith("pages.") || name.startsWith("components."))
+                .findFirst()
+                .map(CommandMetricsListener::simpleName)
+                .orElse(NO_PAGE));
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int nested = name.indexOf('$');
+        return nested > 0 ? name.substring(0, nested) : name;
+    }
+
+    private static String truncate(String locator) {
+        return locator.length() > MAX_LOCATOR_LENGTH ? locator.substring(0, MAX_LOCATOR_LENGTH) + "…" : locator;
+    }
+
+    private static void exportRunMetrics() {
+        if (RUN_METRICS.isEmpty()) {
+            return;
+        }
+        try {
+            RUN_METRICS.export(exportDir);
+            System.out.println("\n📊 Метрики команд WebDriver: " + exportDir.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Не удалось выгрузить метрики команд WebDriver: " + e.getMessage());
+        }
+    }
+}
@@ -1,55 +1,136 @@
 package listeners;
 
+import Waiters.WaitReport;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.events.WebDriverListener;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class HighlightElementListener implements WebDriverListener {
 
-    private final JavascriptExecutor js;
-    private static final List<String> METHODS_TO_HIGHLIGHT = Arrays.asList(
-            "click", "sendKeys", "submit", "clear"
+    private static final long HIGHLIGHT_DURATION_MS = 200;
+    private static final HighlightMode MODE = HighlightMode.current();
+    private static final int SAMPLE_EVERY = Math.max(1, Integer.getInteger("highlight.sample.every", 10));
+    private static final int REPLAY_SIZE = Math.max(1, Integer.getInteger("highlight.replay.size", 5));
+
+    /**
+     * Подсветка через Web Animations API: один запрос, стиль элемента не меняется,
+     * браузер сам снимает рамку по окончании анимации (arguments[3] - оставить рамку)
+     */
+    private static final String HIGHLIGHT_SCRIPT =
+            "var element = arguments[0];" +
+            "var frame = {outline: arguments[1], outlineOffset: '2px', boxShadow: '0 0 10px rgba(0,0,0,0.5)'};" +
+            "if (!element.animate) { return; }" +
+            "element.animate([frame, frame], {duration: arguments[2], fill: arguments[3] ? 'forwards' : 'none'});";
+
+    private static final Map<String, String> STYLES = Map.of(
+            "click", "4px solid magenta",
+            "sendKeys", "3px solid green"
     );
 
+    private final JavascriptExecutor js;
+    private final AtomicLong interactions = new AtomicLong();
+    private final Deque<WebElement> recent = new ArrayDeque<>(REPLAY_SIZE);
+
     public HighlightElementListener(WebDriver driver) {
         this.js = (JavascriptExecutor) driver;
     }
 
+    public static HighlightMode getMode() {
+        return MODE;
+    }
+
+    /**
+     * Подсветить элемент одним неблокирующим скриптом (используется и страницами)
+     */
+    public static void flash(JavascriptExecutor js, WebElement element, String outlineStyle, long durationMs) {
+        js.executeScript(HIGHLIGHT_SCRIPT, element, outlineStyle, durationMs, false);
+    }
+
     @Override
     public void beforeAnyWebElementCall(WebElement element, Method method, Object[] args) {
-        if (shouldHighlight(method)) {
-            highlightElement(element, "3px solid red");
+        String name = method.getName();
+        if (!name.equals("click") && !name.equals("sendKeys") && !name.equals("submit") && !name.equals("clear")) {
+            return;
         }
-    }
 
-    @Override
-    public void beforeClick(WebElement element) {
-        highlightElement(element, "4px solid magenta");
+        highlight(element, STYLES.getOrDefault(name, "3px solid red"), HIGHLIGHT_DURATION_MS);
     }
 
-    @Override
-    public void beforeSendKeys(WebElement element, CharSequence... keysToSend) {
-        highlightElement(element, "3px solid green");
+    /**
+     * Подсветка по текущему режиму: DEBUG - всегда, SAMPLED - каждое N-е обращение
+     * (общий счётчик с действиями драйвера), ON_FAILURE - только запомнить элемент
+     */
+    public void highlight(WebElement element, String outlineStyle, long durationMs) {
+        switch (MODE) {
+            case DEBUG -> highlightElement(element, outlineStyle, durationMs);
+            case SAMPLED -> {
+                if (interactions.incrementAndGet() % SAMPLE_EVERY == 0) {
+                    highlightElement(element, outlineStyle, durationMs);
+                }
+            }
+            case ON_FAILURE -> remember(element);
+            default -> {
+            }
+        }
     }
 
-    private boolean shouldHighlight(Method method) {
-        return METHODS_TO_HIGHLIGHT.contains(method.getName());
+    private void remember(WebElement element) {
+        synchronized (recent) {
+            if (recent.size() == REPLAY_SIZE) {
+                recent.removeFirst();
+            }
+            recent.addLast(element);
+        }
     }
 
-    private void highlightElement(WebElement element, String borderStyle) {
-        try {
-            String script = String.format(
-                    "arguments[0].style.border = '%s'; arguments[0].style.boxShadow = '0 0 10px rgba(0,0,0,0.5)';",
-                    borderStyle
-            );
-            js.executeScript(script, element);
+    /**
+     * Подсветить последние элементы, с которыми работал тест, и оставить рамку для скриншота.
+     * Возвращает число подсвеченных элементов (устаревшие пропускаются)
+     */
+    public int replayRecent() {
+        List<WebElement> elements;
+        synchronized (recent) {
+            elements = new ArrayList<>(recent);
+            recent.clear();
+        }
 
-            Thread.sleep(200);
+        int highlighted = 0;
+        for (int i = 0; i < elements.size(); i++) {
+            boolean last = i == elements.size() - 1;
+            try {
+                js.executeScript(HIGHLIGHT_SCRIPT, elements.get(i), last ? "4px solid red" : "2px dashed orange",
+                        1, true);
+                highlighted++;
+            } catch (StaleElementReferenceException | NoSuchElementException ignored) {
+                // Элемент уже удалён со страницы
+            } catch (Exception e) {
+                System.out.println("Не удалось подсветить элемент при разборе ошибки: " + e.getMessage());
+            }
+        }
+        return highlighted;
+    }
 
-            js.executeScript("arguments[0].style.border = ''; arguments[0].style.boxShadow = '';", element);
+    /**
+     * Забыть действия предыдущего теста (сессия браузера переиспользуется)
+     */
+    public void reset() {
+        synchronized (recent) {
+            recent.clear();
+        }
+        interactions.set(0);
+    }
+
+    private void highlightElement(WebElement element, String outlineStyle, long durationMs) {
+        try {
+            flash(js, element, outlineStyle, durationMs);
+            WaitReport.record("Listener: выделение элемента", durationMs, 0);
 
         } catch (Exception e) {
             // Игнорируем ошибки выделения
@@ -0,0 +1,32 @@
+package listeners;
+
+/**
+ * Режим подсветки элементов (-Dhighlight.mode=...): OFF — без подсветки (по умолчанию в CI),
+ * DEBUG — каждое действие, SAMPLED — каждое N-е действие (-Dhighlight.sample.every),
+ * ON_FAILURE — действия только запоминаются и подсвечиваются на скриншоте при падении теста
+ */
+public enum HighlightMode {
+    OFF,
+    DEBUG,
+    SAMPLED,
+    ON_FAILURE;
+
+    /**
+     * Режим из свойства; неизвестное значение заменяется режимом по умолчанию с предупреждением
+     */
+    public static HighlightMode current() {
+        HighlightMode defaultMode = System.getenv("CI") != null ? OFF : DEBUG;
+        String value = System.getProperty("highlight.mode");
+        if (value == null || value.isBlank()) {
+            return defaultMode;
+        }
+
+        try {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠️ Неизвестный режим подсветки '" + value + "', используется " + defaultMode
+                    + " (допустимо: off, debug, sampled, on-failure)");
+            return defaultMode;
+        }
+    }
+}
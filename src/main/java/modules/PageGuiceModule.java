@@ -1,23 +1,110 @@
 package modules;
 
 import com.google.inject.AbstractModule;
-import org.openqa.selenium.WebDriver;
-import pages.CatalogPage;
-import pages.CoursePage;
-import pages.MainPage;
+import com.google.inject.Singleton;
+import commons.PageMetadata;
+import pages.AbsBasePage;
 
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Страницы с @Path из пакета pages находятся сканированием один раз за JVM,
+ * создаются лениво, при первом внедрении, и живут в пределах дочернего инжектора одного теста
+ */
 public class PageGuiceModule extends AbstractModule {
 
-    private final WebDriver driver;
+    private static final String PAGES_PACKAGE = AbsBasePage.class.getPackageName();
+    private static final List<Class<?>> PAGE_CLASSES = discoverPages();
 
-    public PageGuiceModule(WebDriver driver) {
-        this.driver = driver;
+    public static List<Class<?>> getPageClasses() {
+        return PAGE_CLASSES;
     }
 
     @Override
     protected void configure() {
-        bind(CatalogPage.class).toInstance(new CatalogPage(driver));
-        bind(CoursePage.class).toInstance(new CoursePage(driver));
-        bind(MainPage.class).toInstance(new MainPage(driver));
+        for (Class<?> pageClass : PAGE_CLASSES) {
+            bind(pageClass).in(Singleton.class);
+        }
+    }
+
+    private static List<Class<?>> discoverPages() {
+        ClassLoader loader = PageGuiceModule.class.getClassLoader();
+        List<String> classNames = new ArrayList<>();
+
+        try {
+            Enumeration<URL> roots = loader.getResources(PAGES_PACKAGE.replace('.', '/'));
+            while (roots.hasMoreElements()) {
+                classNames.addAll(listClassNames(roots.nextElement()));
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new IllegalStateException("Не удалось просканировать пакет " + PAGES_PACKAGE, e);
+        }
+
+        List<Class<?>> pages = new ArrayList<>();
+        for (String className : classNames) {
+            try {
+                Class<?> type = Class.forName(className, false, loader);
+                if (AbsBasePage.class.isAssignableFrom(type)
+                        && !Modifier.isAbstract(type.getModifiers())
+                        && PageMetadata.hasPath(type)) {
+                    pages.add(type);
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                System.err.println("Страница " + className + " пропущена: " + e.getMessage());
+            }
+        }
+
+        if (pages.isEmpty()) {
+            throw new IllegalStateException("Страницы с @Path не найдены в пакете " + PAGES_PACKAGE);
+        }
+        System.out.println("📄 Найдено страниц: " + pages.size());
+        return Collections.unmodifiableList(pages);
+    }
+
+    /**
+     * Классы верхнего уровня пакета из каталога (target/classes) или из jar
+     */
+    private static List<String> listClassNames(URL root) throws IOException, URISyntaxException {
+        List<String> classNames = new ArrayList<>();
+
+        if ("jar".equals(root.getProtocol())) {
+            JarURLConnection connection = (JarURLConnection) root.openConnection();
+            connection.setUseCaches(false);
+            String prefix = connection.getEntryName() + "/";
+            try (JarFile jar = connection.getJarFile()) {
+                Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    String name = entries.nextElement().getName();
+                    if (name.startsWith(prefix) && name.indexOf('/', prefix.length()) < 0) {
+                        addIfTopLevelClass(classNames, name.substring(prefix.length()));
+                    }
+                }
+            }
+        } else if ("file".equals(root.getProtocol())) {
+            try (Stream<java.nio.file.Path> files = Files.list(Paths.get(root.toURI()))) {
+                files.forEach(file -> addIfTopLevelClass(classNames, file.getFileName().toString()));
+            }
+        }
+
+        return classNames;
+    }
+
+    private static void addIfTopLevelClass(List<String> classNames, String fileName) {
+        if (fileName.endsWith(".class") && fileName.indexOf('$') < 0) {
+            classNames.add(PAGES_PACKAGE + "." + fileName.substring(0, fileName.length() - ".class".length()));
+        }
     }
 }
@@ -15,6 +15,8 @@ public class ToolsGuiceModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        bind(WebDriver.class).toInstance(driver);
+
         Waiters.Waiter waiter = new Waiters.Waiter(driver);
         bind(Waiters.Waiter.class).toInstance(waiter);
     }
@@ -0,0 +1,232 @@
+package network;
+
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import utils.AtomicFiles;
+import utils.DiskLru;
+import utils.Hashes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Дисковый кэш статических ресурсов (css, js, шрифты, картинки), общий для всех сессий браузера.
+ * Учитывает Cache-Control: no-store/private не сохраняются, в пределах max-age запись отдаётся
+ * без запроса, после - перепроверяется условным запросом по ETag / Last-Modified.
+ * Размер ограничен (-Dnetwork.cache.max.mb), вытесняются давно не использованные записи
+ */
+public class AssetDiskCache {
+
+    private static final List<String> CACHEABLE_EXTENSIONS = List.of(
+            ".css", ".js", ".woff", ".woff2", ".ttf", ".svg", ".png", ".jpg", ".jpeg", ".webp", ".gif", ".ico"
+    );
+    private static final List<String> STORED_HEADERS = List.of("Content-Type", "Cache-Control", "ETag", "Last-Modified");
+    private static final String STORED_AT = "stored-at";
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final Path directory;
+    private final DiskLru lru;
+
+    public AssetDiskCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.lru = new DiskLru(directory, maxBytes, ".headers", ".body");
+        lru.load();
+    }
+
+    public static AssetDiskCache fromSystemProperties() {
+        return new AssetDiskCache(
+                Paths.get(System.getProperty("network.cache.dir", "target/asset-cache")),
+                Long.getLong("network.cache.max.mb", 200) * 1024 * 1024
+        );
+    }
+
+    /**
+     * Кэшируются только статические ресурсы по расширению пути (без query)
+     */
+    public static boolean isCacheable(String uri) {
+        String path = uri;
+        int queryStart = path.indexOf('?');
+        if (queryStart >= 0) {
+            path = path.substring(0, queryStart);
+        }
+        String lowerPath = path.toLowerCase();
+        return CACHEABLE_EXTENSIONS.stream().anyMatch(lowerPath::endsWith);
+    }
+
+    /**
+     * Сохранённая запись, свежая или нет - решает вызывающий по {@link Entry#isFresh()}
+     */
+    public Optional<Entry> get(String uri) {
+        String key = key(uri);
+        Path body = directory.resolve(key + ".body");
+        Path headers = directory.resolve(key + ".headers");
+
+        if (!Files.exists(body) || !Files.exists(headers)) {
+            return Optional.empty();
+        }
+
+        try (InputStream input = Files.newInputStream(headers)) {
+            Properties properties = new Properties();
+            properties.load(input);
+            Entry entry = new Entry(properties, Files.readAllBytes(body));
+            lru.touch(key);
+            return Optional.of(entry);
+        } catch (IOException e) {
+            System.err.println("Кэш ресурсов: не удалось прочитать " + uri + " - " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Сохранить успешный ответ, если его разрешено кэшировать; возвращает ответ с уже прочитанным телом
+     */
+    public HttpResponse put(String uri, HttpResponse response) {
+        if (response.getStatus() != 200 || !isStorable(response)) {
+            return response;
+        }
+
+        byte[] content = Contents.bytes(response.getContent());
+        response.setContent(Contents.bytes(content));
+
+        try {
+            Files.createDirectories(directory);
+            String key = key(uri);
+            AtomicFiles.write(directory.resolve(key + ".body"), content);
+            AtomicFiles.write(directory.resolve(key + ".headers"), storedHeaders(response), uri);
+            lru.written(key);
+        } catch (IOException e) {
+            System.err.println("Кэш ресурсов: не удалось сохранить " + uri + " - " + e.getMessage());
+        }
+
+        return response;
+    }
+
+    /**
+     * Сервер ответил 304 на условный запрос: продлить запись по заголовкам ответа и отдать её тело
+     */
+    public HttpResponse revalidated(String uri, Entry entry, HttpResponse notModified) {
+        Properties properties = storedHeaders(notModified);
+        for (String name : STORED_HEADERS) {
+            if (properties.getProperty(name) == null && entry.headers.getProperty(name) != null) {
+                properties.setProperty(name, entry.headers.getProperty(name));
+            }
+        }
+
+        try {
+            AtomicFiles.write(directory.resolve(key(uri) + ".headers"), properties, uri);
+        } catch (IOException e) {
+            System.err.println("Кэш ресурсов: не удалось обновить " + uri + " - " + e.getMessage());
+        }
+        return new Entry(properties, entry.body).toResponse();
+    }
+
+    public String getStats() {
+        return String.format("Кэш ресурсов: записей %d, %d КБ из %d КБ, вытеснено %d",
+                lru.size(), lru.getTotalBytes() / 1024, lru.getMaxBytes() / 1024, lru.getEvictions());
+    }
+
+    /**
+     * no-store/private не сохраняем; без max-age и без валидаторов запись не пригодится
+     */
+    private static boolean isStorable(HttpResponse response) {
+        String cacheControl = lower(response.getHeader("Cache-Control"));
+        if (cacheControl.contains("no-store") || cacheControl.contains("private")) {
+            return false;
+        }
+        return maxAgeSeconds(cacheControl) > 0
+                || response.getHeader("ETag") != null
+                || response.getHeader("Last-Modified") != null;
+    }
+
+    private static Properties storedHeaders(HttpResponse response) {
+        Properties properties = new Properties();
+        for (String name : STORED_HEADERS) {
+            String value = response.getHeader(name);
+            if (value != null) {
+                properties.setProperty(name, value);
+            }
+        }
+        properties.setProperty(STORED_AT, String.valueOf(System.currentTimeMillis()));
+        return properties;
+    }
+
+    private static long maxAgeSeconds(String cacheControl) {
+        if (cacheControl.contains("no-cache")) {
+            return 0;
+        }
+        Matcher matcher = MAX_AGE.matcher(cacheControl);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    private static String lower(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : "";
+    }
+
+    static String key(String uri) {
+        return Hashes.sha256Hex(uri);
+    }
+
+    /**
+     * Сохранённый ответ: заголовки, момент сохранения и тело
+     */
+    public static class Entry {
+        private final Properties headers;
+        private final byte[] body;
+
+        Entry(Properties headers, byte[] body) {
+            this.headers = headers;
+            this.body = body;
+        }
+
+        /**
+         * Можно отдавать без запроса: не истёк max-age с момента сохранения или последней перепроверки
+         */
+        public boolean isFresh() {
+            long storedAt = Long.parseLong(headers.getProperty(STORED_AT, "0"));
+            long maxAgeMs = maxAgeSeconds(lower(headers.getProperty("Cache-Control"))) * 1000;
+            return System.currentTimeMillis() < storedAt + maxAgeMs;
+        }
+
+        public boolean canRevalidate() {
+            return headers.getProperty("ETag") != null || headers.getProperty("Last-Modified") != null;
+        }
+
+        /**
+         * Запрос браузера с нашими условиями If-None-Match / If-Modified-Since
+         */
+        public HttpRequest conditional(HttpRequest request) {
+            String etag = headers.getProperty("ETag");
+            String lastModified = headers.getProperty("Last-Modified");
+            if (etag != null) {
+                request.setHeader("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                request.setHeader("If-Modified-Since", lastModified);
+            }
+            return request;
+        }
+
+        public HttpResponse toResponse() {
+            HttpResponse response = new HttpResponse().setStatus(200);
+            for (String name : STORED_HEADERS) {
+                String value = headers.getProperty(name);
+                if (value != null) {
+                    response.setHeader(name, value);
+                }
+            }
+            response.setHeader("Content-Length", String.valueOf(body.length));
+            response.setContent(Contents.bytes(body));
+            return response;
+        }
+    }
+}
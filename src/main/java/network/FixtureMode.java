@@ -0,0 +1,24 @@
+package network;
+
+/**
+ * Режим фикстур (-Dfixtures.mode=...): OFF — живой сайт, RECORD — запись ответов
+ * в каталог фикстур, REPLAY — воспроизведение с локального HTTP-сервера
+ */
+public enum FixtureMode {
+    OFF,
+    RECORD,
+    REPLAY;
+
+    /**
+     * Режим из свойства; неизвестное значение заменяется OFF с предупреждением
+     */
+    public static FixtureMode current() {
+        String value = System.getProperty("fixtures.mode", "off");
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠️ Неизвестный режим фикстур '" + value + "', используется off (допустимо: off, record, replay)");
+            return OFF;
+        }
+    }
+}
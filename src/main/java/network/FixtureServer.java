@@ -0,0 +1,155 @@
+package network;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import testdata.TestDataManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Локальный HTTP-сервер, отдающий записанные фикстуры (-Dfixtures.mode=replay).
+ * Пути базового сайта отдаются как есть, остальные записанные хосты - через /__fixtures/{host}/...
+ */
+public class FixtureServer {
+
+    private static final String FOREIGN_HOST_PREFIX = "/__fixtures/";
+    private static FixtureServer instance;
+
+    private final FixtureStore store;
+    private final String recordedOrigin;
+    private final Set<String> recordedHosts;
+    private final long latencyMs;
+    private HttpServer server;
+    private ExecutorService executor;
+    private String localOrigin;
+
+    public FixtureServer(FixtureStore store, String recordedOrigin, long latencyMs) {
+        this.store = store;
+        this.recordedOrigin = stripTrailingSlash(recordedOrigin);
+        this.recordedHosts = store.recordedHosts();
+        this.latencyMs = latencyMs;
+    }
+
+    /**
+     * В режиме replay запустить сервер один раз на JVM и направить на него base.url
+     */
+    public static synchronized void startIfReplay() {
+        if (instance != null || FixtureMode.current() != FixtureMode.REPLAY) {
+            return;
+        }
+
+        FixtureServer fixtureServer = new FixtureServer(
+                FixtureStore.fromSystemProperties(),
+                TestDataManager.getBaseUrl(),
+                Long.getLong("fixtures.latency.ms", 0)
+        );
+        fixtureServer.start(Integer.getInteger("fixtures.port", 0));
+        System.setProperty("base.url", fixtureServer.getBaseUrl());
+        Runtime.getRuntime().addShutdownHook(new Thread(fixtureServer::stop, "fixture-server-stop"));
+        instance = fixtureServer;
+
+        System.out.println("📼 Режим replay: " + fixtureServer.recordedOrigin + " -> " + fixtureServer.getBaseUrl());
+    }
+
+    public void start(int port) {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Не удалось запустить сервер фикстур: " + e.getMessage(), e);
+        }
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        localOrigin = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    public String getBaseUrl() {
+        return localOrigin;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String url = toRecordedUrl(exchange.getRequestURI());
+            Optional<FixtureStore.Fixture> fixture = store.find(url);
+
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+
+            if (fixture.isEmpty()) {
+                System.out.println("📼 Нет фикстуры: " + url);
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            String contentType = fixture.get().getHeader("Content-Type");
+            byte[] body = fixture.get().getBody();
+            if (contentType != null && isText(contentType)) {
+                body = rewriteOrigins(new String(body, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+            }
+
+            if (contentType != null) {
+                exchange.getResponseHeaders().set("Content-Type", contentType);
+            }
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            exchange.sendResponseHeaders(fixture.get().getStatus(), body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Локальный путь -> URL, под которым ответ был записан
+     */
+    private String toRecordedUrl(URI requestUri) {
+        String path = requestUri.getRawPath();
+        String query = requestUri.getRawQuery() != null ? "?" + requestUri.getRawQuery() : "";
+
+        if (path.startsWith(FOREIGN_HOST_PREFIX)) {
+            String hostAndPath = path.substring(FOREIGN_HOST_PREFIX.length());
+            return "https://" + hostAndPath + query;
+        }
+        return recordedOrigin + path + query;
+    }
+
+    /**
+     * Абсолютные ссылки на записанные хосты переводятся на локальный сервер
+     */
+    private String rewriteOrigins(String content) {
+        String result = content.replace(recordedOrigin, localOrigin);
+        String recordedHost = URI.create(recordedOrigin).getHost();
+        for (String host : recordedHosts) {
+            if (!host.equals(recordedHost)) {
+                result = result.replace("https://" + host, localOrigin + FOREIGN_HOST_PREFIX + host);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isText(String contentType) {
+        return contentType.startsWith("text/") || contentType.contains("javascript") || contentType.contains("json");
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,147 @@
+package network;
+
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpResponse;
+import utils.AtomicFiles;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Каталог записанных ответов: для каждого URL тело (.body) и заголовки (.properties)
+ */
+public class FixtureStore {
+
+    private static final List<String> RECORDED_TYPES = List.of(
+            "text/html", "javascript", "text/css", "application/json", "font/", "image/svg"
+    );
+    private static final List<String> RECORDED_HEADERS = List.of("Content-Type", "Cache-Control", "Last-Modified", "ETag");
+
+    private final Path directory;
+
+    public FixtureStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public static FixtureStore fromSystemProperties() {
+        return new FixtureStore(Paths.get(System.getProperty("fixtures.dir", "src/test/resources/fixtures/otus")));
+    }
+
+    /**
+     * Записать ответ, если это HTML/JS/CSS/JSON/шрифт; возвращает ответ с прочитанным телом
+     */
+    public HttpResponse record(String url, HttpResponse response) {
+        String contentType = response.getHeader("Content-Type");
+        if (response.getStatus() != 200 || contentType == null
+                || RECORDED_TYPES.stream().noneMatch(contentType::contains)) {
+            return response;
+        }
+
+        byte[] content = Contents.bytes(response.getContent());
+        response.setContent(Contents.bytes(content));
+
+        try {
+            Files.createDirectories(directory);
+            String key = AssetDiskCache.key(url);
+
+            Properties properties = new Properties();
+            properties.setProperty("url", url);
+            properties.setProperty("status", String.valueOf(response.getStatus()));
+            for (String name : RECORDED_HEADERS) {
+                String value = response.getHeader(name);
+                if (value != null) {
+                    properties.setProperty(name, value);
+                }
+            }
+
+            // Сначала тело, затем заголовки: запись видна для replay, только когда оба файла готовы
+            AtomicFiles.write(directory.resolve(key + ".body"), content);
+            AtomicFiles.write(directory.resolve(key + ".properties"), properties, null);
+            System.out.println("📼 Записан ответ: " + url);
+        } catch (IOException e) {
+            System.err.println("Фикстуры: не удалось записать " + url + " - " + e.getMessage());
+        }
+
+        return response;
+    }
+
+    public Optional<Fixture> find(String url) {
+        String key = AssetDiskCache.key(url);
+        Path body = directory.resolve(key + ".body");
+        Path headers = directory.resolve(key + ".properties");
+
+        if (!Files.exists(body) || !Files.exists(headers)) {
+            return Optional.empty();
+        }
+
+        try (InputStream input = Files.newInputStream(headers)) {
+            Properties properties = new Properties();
+            properties.load(input);
+            return Optional.of(new Fixture(properties, Files.readAllBytes(body)));
+        } catch (IOException e) {
+            System.err.println("Фикстуры: не удалось прочитать " + url + " - " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Хосты, ответы с которых есть в каталоге
+     */
+    public Set<String> recordedHosts() {
+        Set<String> hosts = new TreeSet<>();
+        if (!Files.isDirectory(directory)) {
+            return hosts;
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(".properties"))
+                    .forEach(file -> {
+                        try (InputStream input = Files.newInputStream(file)) {
+                            Properties properties = new Properties();
+                            properties.load(input);
+                            hosts.add(URI.create(properties.getProperty("url")).getHost());
+                        } catch (Exception e) {
+                            System.err.println("Фикстуры: пропущен файл " + file + " - " + e.getMessage());
+                        }
+                    });
+        } catch (IOException e) {
+            System.err.println("Фикстуры: не удалось прочитать каталог " + directory + " - " + e.getMessage());
+        }
+        return hosts;
+    }
+
+    /**
+     * Записанный ответ
+     */
+    public static class Fixture {
+        private final Properties headers;
+        private final byte[] body;
+
+        Fixture(Properties headers, byte[] body) {
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public int getStatus() {
+            return Integer.parseInt(headers.getProperty("status", "200"));
+        }
+
+        public String getHeader(String name) {
+            return headers.getProperty(name);
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package network;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Перехват сетевых запросов браузера через Chrome DevTools:
+ * блокировка аналитики/рекламы/видео и выдача статики из дискового кэша.
+ * Включается -Dnetwork.intercept=true, а также в режиме записи фикстур (-Dfixtures.mode=record)
+ */
+public class TrafficInterceptor implements Closeable {
+
+    private static final boolean recording = FixtureMode.current() == FixtureMode.RECORD;
+    private static final boolean enabled = Boolean.getBoolean("network.intercept") || recording;
+    private static final String DEFAULT_BLOCK_PATTERNS = String.join(",",
+            "google-analytics.com",
+            "googletagmanager.com",
+            "doubleclick.net",
+            "mc.yandex.ru",
+            "top-fwz1.mail.ru",
+            "connect.facebook.net",
+            "vk.com/rtrg",
+            "youtube.com/embed",
+            ".mp4",
+            ".webm"
+    );
+    private static final List<String> blockPatterns = Arrays.stream(
+                    System.getProperty("network.block.patterns", DEFAULT_BLOCK_PATTERNS).split(","))
+            .map(String::trim)
+            .filter(pattern -> !pattern.isEmpty())
+            .collect(Collectors.toList());
+    private static final AssetDiskCache cache = AssetDiskCache.fromSystemProperties();
+    private static final FixtureStore fixtures = FixtureStore.fromSystemProperties();
+
+    private final NetworkInterceptor interceptor;
+    private final LongAdder requestsBlocked = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    private TrafficInterceptor(WebDriver driver) {
+        Filter filter = next -> request -> handle(next, request);
+        this.interceptor = new NetworkInterceptor(driver, filter);
+    }
+
+    /**
+     * Установить перехватчик на недекорированный драйвер (нужен HasDevTools)
+     */
+    public static Optional<TrafficInterceptor> install(WebDriver driver) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        if (!(driver instanceof HasDevTools)) {
+            System.out.println("⚠️ Перехват сети недоступен: драйвер не поддерживает DevTools");
+            return Optional.empty();
+        }
+
+        System.out.println("🛡️ Перехват сети включен, блокируем: " + blockPatterns);
+        return Optional.of(new TrafficInterceptor(driver));
+    }
+
+    private HttpResponse handle(HttpHandler next, HttpRequest request) {
+        String uri = request.getUri();
+
+        if (isBlocked(uri)) {
+            requestsBlocked.increment();
+            return new HttpResponse().setStatus(204);
+        }
+
+        if (recording) {
+            return request.getMethod() == HttpMethod.GET
+                    ? fixtures.record(uri, next.execute(request))
+                    : next.execute(request);
+        }
+
+        if (request.getMethod() == HttpMethod.GET && AssetDiskCache.isCacheable(uri)) {
+            Optional<AssetDiskCache.Entry> cached = cache.get(uri);
+            if (cached.isPresent() && cached.get().isFresh()) {
+                return cacheHit(cached.get().toResponse());
+            }
+            if (cached.isPresent() && cached.get().canRevalidate()) {
+                HttpResponse response = next.execute(cached.get().conditional(request));
+                return response.getStatus() == 304
+                        ? cacheHit(cache.revalidated(uri, cached.get(), response))
+                        : cache.put(uri, response);
+            }
+            return cache.put(uri, next.execute(request));
+        }
+
+        return next.execute(request);
+    }
+
+    /**
+     * Тело отдано из кэша (без запроса или после ответа 304)
+     */
+    private HttpResponse cacheHit(HttpResponse response) {
+        cacheHits.increment();
+        String length = response.getHeader("Content-Length");
+        bytesSaved.add(length != null ? Long.parseLong(length) : 0);
+        return response;
+    }
+
+    private boolean isBlocked(String uri) {
+        for (String pattern : blockPatterns) {
+            if (uri.contains(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Счётчики с момента предыдущего вызова (per-test при переиспользовании сессии)
+     */
+    public TrafficStats snapshotAndReset() {
+        return new TrafficStats(requestsBlocked.sumThenReset(), cacheHits.sumThenReset(), bytesSaved.sumThenReset());
+    }
+
+    @Override
+    public void close() {
+        try {
+            interceptor.close();
+        } catch (Exception e) {
+            System.err.println("Ошибка при отключении перехвата сети: " + e.getMessage());
+        }
+    }
+}
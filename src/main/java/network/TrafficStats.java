@@ -0,0 +1,35 @@
+package network;
+
+/**
+ * Счётчики перехвата сети за один тест
+ */
+public class TrafficStats {
+
+    private final long requestsBlocked;
+    private final long cacheHits;
+    private final long bytesSaved;
+
+    public TrafficStats(long requestsBlocked, long cacheHits, long bytesSaved) {
+        this.requestsBlocked = requestsBlocked;
+        this.cacheHits = cacheHits;
+        this.bytesSaved = bytesSaved;
+    }
+
+    public long getRequestsBlocked() {
+        return requestsBlocked;
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Заблокировано запросов: %d%nОтдано из кэша: %d%nСэкономлено байт: %d",
+                requestsBlocked, cacheHits, bytesSaved);
+    }
+}
@@ -1,31 +1,30 @@
 package pages;
 
-import annotations.Path;
 import commons.AbsCommon;
-import exceptions.PathPageNotFoundException;
+import commons.PageMetadata;
 import org.openqa.selenium.WebDriver;
+import testdata.TestDataManager;
 
 public abstract class AbsBasePage<T> extends AbsCommon {
 
-    private final String baseUrl = System.getProperty("base.url", "https://otus.ru");
+    private final String baseUrl = TestDataManager.getBaseUrl();
 
     public AbsBasePage(WebDriver driver) {
         super(driver);
     }
 
-    private String getPath() {
-        Class<?> clazz = this.getClass();
-
-        if(clazz.isAnnotationPresent(Path.class)) {
-            Path path = clazz.getAnnotation(Path.class);
-            return path.value();
-        }
-
-        throw new PathPageNotFoundException(clazz);
-    }
-
     public T open() {
-        driver.get(baseUrl + getPath());
+        driver.get(baseUrl + PageMetadata.getPath(getClass()));
         return (T) this;
     }
+
+    /**
+     * Привести ссылку со страницы к абсолютному URL (пустая и null возвращаются как есть)
+     */
+    protected String toAbsoluteUrl(String url) {
+        if (url != null && !url.isEmpty() && !url.startsWith("http")) {
+            return baseUrl + url;
+        }
+        return url;
+    }
 }
\ No newline at end of file
@@ -1,17 +1,23 @@
 package pages;
 
+import Waiters.Waiter;
 import annotations.Path;
+import com.google.inject.Inject;
+import commons.ElementRow;
+import dto.CatalogSnapshot;
 import dto.CourseDto;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.CategorySlugs;
+import utils.DateTextClassifier;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -19,23 +25,35 @@ import java.util.stream.Collectors;
 @Path("/catalog/courses")
 public class CatalogPage extends AbsBasePage<CatalogPage> {
 
-    private final By courseCardsLocator = By.cssSelector("a.sc-zzdkm7-0");
+    private static final String COURSE_CARD_CSS = "a.sc-zzdkm7-0";
+    private static final String COURSE_TITLE_CSS = "h6.sc-1yg5ro0-1 div.sc-hrqzy3-1";
+    private static final String COURSE_DATE_CSS = ".sc-157icee-1 .sc-hrqzy3-1";
+
+    private static final Map<String, String> CARD_FIELDS = Map.of(
+            "title", COURSE_TITLE_CSS,
+            "date", COURSE_DATE_CSS,
+            "href", "@href"
+    );
+
+    private final By courseCardsLocator = By.cssSelector(COURSE_CARD_CSS);
     private final By pageTitleLocator = By.cssSelector("h1.sc-hrqzy3-0");
-    private final By courseDateLocator = By.cssSelector(".sc-157icee-1 .sc-hrqzy3-1");
     private final By showMoreButton = By.cssSelector("button.sc-1qig7zt-0.bYRRHi.sc-prqxfo-0.cXVWAS");
-    private final By courseTitleLocator = By.cssSelector("h6.sc-1yg5ro0-1 div.sc-hrqzy3-1");
 
+    private CatalogSnapshot snapshot;
+    private String expandedUrl;
+
+    @Inject
     public CatalogPage(WebDriver driver) {
         super(driver);
     }
 
     @Override
     public CatalogPage open() {
+        invalidateSnapshot();
         super.open();
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        wait.until(ExpectedConditions.presenceOfElementLocated(pageTitleLocator));
-        wait.until(ExpectedConditions.presenceOfElementLocated(courseCardsLocator));
+        waiter.until(ExpectedConditions.presenceOfElementLocated(pageTitleLocator), Duration.ofSeconds(10));
+        waiter.until(ExpectedConditions.presenceOfElementLocated(courseCardsLocator), Duration.ofSeconds(10));
 
         return this;
     }
@@ -62,14 +80,28 @@ public class CatalogPage extends AbsBasePage<CatalogPage> {
         }
     }
 
-     /**
+    /**
      * Получить ВСЕ карточки курсов
      */
     public List<WebElement> getAllCourseCards() {
         System.out.println("Получаем все карточки курсов...");
 
+        expandCatalog();
+
         List<WebElement> cards = driver.findElements(courseCardsLocator);
-        System.out.println("Первоначально найдено карточек: " + cards.size());
+        System.out.println("Найдено карточек: " + cards.size());
+
+        return cards;
+    }
+
+    /**
+     * Раскрыть каталог кнопкой 'Показать еще' (один раз для текущего URL)
+     */
+    private void expandCatalog() {
+        String currentUrl = driver.getCurrentUrl();
+        if (currentUrl.equals(expandedUrl)) {
+            return;
+        }
 
         try {
             List<WebElement> showMoreButtons = driver.findElements(showMoreButton);
@@ -78,6 +110,10 @@ public class CatalogPage extends AbsBasePage<CatalogPage> {
                 WebElement showMoreBtn = showMoreButtons.get(0);
 
                 if (showMoreBtn.isDisplayed()) {
+                    int cardsBefore = driver.findElements(courseCardsLocator).size();
+                    ExpectedCondition<Boolean> settled = Waiter.domIdle(Duration.ofMillis(300));
+                    // Первый вызов ставит наблюдатель DOM и запросов до клика, чтобы подгрузка не ускользнула
+                    settled.apply(driver);
                     System.out.println("Нажимаем 'Показать еще' через JavaScript...");
 
                     ((JavascriptExecutor) driver).executeScript(
@@ -85,34 +121,76 @@ public class CatalogPage extends AbsBasePage<CatalogPage> {
                             showMoreBtn
                     );
 
-                    Thread.sleep(2000);
-
-                    cards = driver.findElements(courseCardsLocator);
-                    System.out.println("После 'Показать еще' карточек: " + cards.size());
+                    // Карточек стало больше и DOM затих - подгрузка закончилась;
+                    // DOM молчит секунду без новых карточек - каталог уже полный, дольше не ждём
+                    ExpectedCondition<Boolean> loaded = ExpectedConditions.or(
+                            ExpectedConditions.and(Waiter.countGreaterThan(courseCardsLocator, cardsBefore), settled),
+                            Waiter.domIdle(Duration.ofSeconds(1))
+                    );
+                    boolean finished = waiter.waitInsteadOfSleep("CatalogPage: показать еще", 2000, loaded);
+                    int cardsAfter = driver.findElements(courseCardsLocator).size();
+                    if (!finished) {
+                        System.out.println("Каталог не догрузился за таймаут ожидания, карточек сейчас: " + cardsAfter);
+                    } else if (cardsAfter <= cardsBefore) {
+                        System.out.println("'Показать еще' не добавила карточек: каталог уже полный");
+                    }
                 }
             }
         } catch (Exception e) {
             System.out.println("Кнопка 'Показать еще' не найдена или не кликабельна: " + e.getMessage());
         }
 
-        return cards;
+        expandedUrl = currentUrl;
+    }
+
+    /**
+     * Снимок каталога: снимается один раз и переснимается после навигации
+     */
+    public CatalogSnapshot getSnapshot() {
+        String currentUrl = driver.getCurrentUrl();
+        if (snapshot == null || !snapshot.getPageUrl().equals(currentUrl)) {
+            snapshot = captureSnapshot(currentUrl);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Сбросить снимок каталога (при переходе на другую страницу)
+     */
+    public void invalidateSnapshot() {
+        snapshot = null;
+        expandedUrl = null;
+    }
+
+    private CatalogSnapshot captureSnapshot(String currentUrl) {
+        expandCatalog();
+
+        List<ElementRow> rows = extractRows(COURSE_CARD_CSS, CARD_FIELDS);
+
+        List<String> titles = new ArrayList<>(rows.size());
+        List<CourseDto> courses = new ArrayList<>(rows.size());
+
+        for (ElementRow row : rows) {
+            String title = row.get("title");
+            titles.add(title);
+
+            CourseDto course = convertToCourseDto(title, row.get("date"), row.get("href"));
+            if (course != null) {
+                courses.add(course);
+            }
+        }
+
+        CatalogSnapshot captured = new CatalogSnapshot(currentUrl, titles, courses);
+        System.out.println("📸 Снимок каталога: карточек " + titles.size() + ", курсов " + captured.getCourses().size()
+                + ", удалено дубликатов: " + captured.getDuplicatesDropped());
+        return captured;
     }
 
     /**
      * Получить названия всех курсов
      */
     public List<String> getAllCourseNames() {
-        return getAllCourseCards().stream()
-                .map(card -> {
-                    try {
-                        return card.findElement(courseTitleLocator).getText().trim();
-                    } catch (Exception e) {
-                        return "";
-                    }
-                })
-                .filter(name -> !name.isEmpty())
-                .distinct()
-                .collect(Collectors.toList());
+        return getSnapshot().getCourseNames();
     }
 
     /**
@@ -121,28 +199,25 @@ public class CatalogPage extends AbsBasePage<CatalogPage> {
     public void clickCourseByName(String courseName) {
         System.out.println("Ищем курс для клика: " + courseName);
 
-        WebElement courseCard = getAllCourseCards().stream()
-                .filter(card -> {
-                    try {
-                        String title = card.findElement(courseTitleLocator).getText().trim();
-                        return title.equals(courseName);
-                    } catch (Exception e) {
-                        return false;
-                    }
-                })
-                .findFirst()
-                .orElseThrow(() -> {
-                    // Выводим доступные курсы для отладки
-                    String availableCourses = getAllCourseNames().stream()
-                            .limit(10)
-                            .collect(Collectors.joining("\n- ", "Доступные курсы (первые 10):\n- ", ""));
-                    return new RuntimeException("Курс не найден: " + courseName + "\n" + availableCourses);
-                });
+        CatalogSnapshot currentSnapshot = getSnapshot();
+        int index = currentSnapshot.indexOfCard(courseName);
+        List<WebElement> cards = driver.findElements(courseCardsLocator);
+
+        if (index < 0 || index >= cards.size()) {
+            // Выводим доступные курсы для отладки
+            String availableCourses = currentSnapshot.getCourseNames().stream()
+                    .limit(10)
+                    .collect(Collectors.joining("\n- ", "Доступные курсы (первые 10):\n- ", ""));
+            throw new RuntimeException("Курс не найден: " + courseName + "\n" + availableCourses);
+        }
+
+        WebElement courseCard = cards.get(index);
 
         highlightElement(courseCard, "3px solid magenta");
 
         Actions actions = new Actions(driver);
         actions.moveToElement(courseCard).click().perform();
+        invalidateSnapshot();
 
         System.out.println("Курс '" + courseName + "' успешно кликнут");
     }
@@ -151,55 +226,44 @@ public class CatalogPage extends AbsBasePage<CatalogPage> {
      * Получить DTO для всех курсов (с обработкой всех возможных форматов)
      */
     public List<CourseDto> getAllCoursesWithDates() {
-        return getAllCourseCards().stream()
-                .map(this::convertToCourseDto)
-                .filter(course -> course != null)
-                .distinct()
-                .collect(Collectors.toList());
+        return getSnapshot().getCourses();
     }
 
     /**
      * Получить только курсы с указанной датой
      */
     public List<CourseDto> getCoursesWithDefinedDates() {
-        return getAllCoursesWithDates().stream()
-                .filter(CourseDto::hasDate)
-                .collect(Collectors.toList());
+        return getSnapshot().getCoursesWithDates();
     }
 
     /**
      * Получить курсы без указанной даты
      */
     public List<CourseDto> getCoursesWithoutDate() {
-        return getAllCoursesWithDates().stream()
-                .filter(course -> !course.hasDate())
-                .collect(Collectors.toList());
+        return getSnapshot().getCoursesWithoutDate();
     }
 
     /**
-     * Улучшенная конвертация WebElement в CourseDto
+     * Конвертация данных карточки в CourseDto
      */
-    private CourseDto convertToCourseDto(WebElement card) {
+    private CourseDto convertToCourseDto(String title, String dateText, String href) {
         try {
-            String title = getCourseTitle(card);
             if (title.isEmpty()) {
                 return null;
             }
 
-            String dateText = getCourseDateText(card);
+            String url = toAbsoluteUrl(href);
 
-            if (isNoDateMessage(dateText)) {
-                System.out.println("Курс без даты: " + title + " - " + dateText);
-                String url = getCourseUrl(card);
+            DateTextClassifier.Classification classification = DateTextClassifier.classify(dateText);
+            if (classification != DateTextClassifier.Classification.DATED) {
+                System.out.println("Курс без даты (" + classification + "): " + title + " - " + dateText);
                 return new CourseDto(title, url);
             }
 
-            String datePart = extractDatePart(dateText);
+            String datePart = DateTextClassifier.extractDatePart(dateText);
 
             LocalDate startDate = CourseDto.parseDate(datePart);
 
-            String url = getCourseUrl(card);
-
             if (startDate != null) {
                 return new CourseDto(title, startDate, url);
             } else {
@@ -214,153 +278,49 @@ public class CatalogPage extends AbsBasePage<CatalogPage> {
     }
 
     /**
-     * Получить название курса из карточки
-     */
-    private String getCourseTitle(WebElement card) {
-        try {
-            return card.findElement(courseTitleLocator).getText().trim();
-        } catch (Exception e) {
-            return "";
-        }
-    }
-
-    /**
-     * Получить текст даты из карточки
-     */
-    private String getCourseDateText(WebElement card) {
-        try {
-            return card.findElement(courseDateLocator).getText().trim();
-        } catch (Exception e) {
-            return "";
-        }
-    }
-
-    /**
-     * Получить URL курса из карточки
-     */
-    private String getCourseUrl(WebElement card) {
-        String url = card.getAttribute("href");
-        if (url != null && !url.startsWith("http")) {
-            url = "https://otus.ru" + url;
-        }
-        return url;
-    }
-
-    /**
-     * Извлечь часть с датой из текста
-     */
-    private String extractDatePart(String dateText) {
-        if (dateText == null || dateText.isEmpty()) {
-            return "";
-        }
-
-        String[] parts = dateText.split("·");
-        return parts[0].trim();
-    }
-
-    /**
-     * Улучшенная проверка сообщений об отсутствии даты
-     */
-    private boolean isNoDateMessage(String text) {
-        if (text == null || text.isEmpty()) {
-            return true;
-        }
-
-        String lowerText = text.toLowerCase();
-
-        if (lowerText.contains("объявлено позже") ||
-                lowerText.contains("дата уточняется") ||
-                lowerText.contains("будет объявлено") ||
-                lowerText.contains("не указана") ||
-                lowerText.contains("скоро объявим") ||
-                lowerText.contains("дата старта уточняется")) {
-            return true;
-        }
-
-        boolean hasValidFormat = text.matches(".*\\d{1,2}\\s+[а-я]+,\\s+\\d{4}.*");
-
-        return !hasValidFormat;
-    }
-
-    /**
-     * Найти курсы с самой ранней датой начала (используем Stream API и reduce)
+     * Найти курсы с самой ранней датой начала
      */
     public List<CourseDto> findCoursesWithEarliestDate() {
-        List<CourseDto> coursesWithDates = getCoursesWithDefinedDates();
+        CatalogSnapshot currentSnapshot = getSnapshot();
 
-        System.out.println("Курсов с датами (Selenium): " + coursesWithDates.size());
+        System.out.println("Курсов с датами (Selenium): " + currentSnapshot.getCoursesWithDates().size());
 
-        if (coursesWithDates.isEmpty()) {
+        List<CourseDto> result = currentSnapshot.getEarliestCourses();
+        if (result.isEmpty()) {
             System.out.println("Нет курсов с указанной датой");
-            return List.of();
-        }
-
-        // Используем reduce для поиска минимальной даты
-        Optional<LocalDate> minDate = coursesWithDates.stream()
-                .map(course -> course.getStartDate().orElse(null))
-                .filter(date -> date != null)
-                .reduce((date1, date2) -> date1.isBefore(date2) ? date1 : date2);
-
-        if (minDate.isPresent()) {
-            LocalDate earliestDate = minDate.get();
-            System.out.println("Самая ранняя дата (Selenium): " + earliestDate);
-
-            // Возвращаем все курсы с этой датой
-            List<CourseDto> result = coursesWithDates.stream()
-                    .filter(course -> course.getStartDate()
-                            .map(date -> date.equals(earliestDate))
-                            .orElse(false))
-                    .collect(Collectors.toList());
-
-            System.out.println("Курсов с самой ранней датой (Selenium): " + result.size());
             return result;
         }
 
-        return List.of();
+        System.out.println("Самая ранняя дата (Selenium): " + result.get(0).getStartDate().orElse(null));
+        System.out.println("Курсов с самой ранней датой (Selenium): " + result.size());
+        return result;
     }
 
     /**
-     * Найти курсы с самой поздней датой начала (используем Stream API и reduce)
+     * Найти курсы с самой поздней датой начала
      */
     public List<CourseDto> findCoursesWithLatestDate() {
-        List<CourseDto> coursesWithDates = getCoursesWithDefinedDates();
-
-        if (coursesWithDates.isEmpty()) {
+        List<CourseDto> result = getSnapshot().getLatestCourses();
+        if (result.isEmpty()) {
             System.out.println("Нет курсов с указанной датой");
-            return List.of();
-        }
-
-        Optional<LocalDate> maxDate = coursesWithDates.stream()
-                .map(course -> course.getStartDate().orElse(null))
-                .filter(date -> date != null)
-                .reduce((date1, date2) -> date1.isAfter(date2) ? date1 : date2);
-
-        if (maxDate.isPresent()) {
-            LocalDate latestDate = maxDate.get();
-            System.out.println("Самая поздняя дата (Selenium): " + latestDate);
-
-            return coursesWithDates.stream()
-                    .filter(course -> course.getStartDate()
-                            .map(date -> date.equals(latestDate))
-                            .orElse(false))
-                    .collect(Collectors.toList());
+            return result;
         }
 
-        return List.of();
+        System.out.println("Самая поздняя дата (Selenium): " + result.get(0).getStartDate().orElse(null));
+        return result;
     }
 
     /**
      * Получить статистику по курсам
      */
     public void printCourseStatistics() {
-        List<CourseDto> allCourses = getAllCoursesWithDates();
-        List<CourseDto> withDates = getCoursesWithDefinedDates();
-        List<CourseDto> withoutDates = getCoursesWithoutDate();
+        CatalogSnapshot currentSnapshot = getSnapshot();
+        List<CourseDto> withDates = currentSnapshot.getCoursesWithDates();
 
         System.out.println("📊 Статистика курсов:");
-        System.out.println("  Всего курсов: " + allCourses.size());
+        System.out.println("  Всего курсов: " + currentSnapshot.getCourses().size());
         System.out.println("  С указанной датой: " + withDates.size());
-        System.out.println("  Без даты: " + withoutDates.size());
+        System.out.println("  Без даты: " + currentSnapshot.getCoursesWithoutDate().size());
 
         // Выводим даты первых нескольких курсов для отладки
         if (!withDates.isEmpty()) {
@@ -384,8 +344,6 @@ public class CatalogPage extends AbsBasePage<CatalogPage> {
      */
     public boolean isCategoryFilterApplied(String expectedCategorySlug) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-
             String currentUrl = driver.getCurrentUrl().toLowerCase();
             System.out.println("Текущий URL для проверки: " + currentUrl);
             System.out.println("Ожидаемый slug: " + expectedCategorySlug.toLowerCase());
@@ -408,7 +366,7 @@ public class CatalogPage extends AbsBasePage<CatalogPage> {
                         WebElement label = filter.findElement(By.cssSelector("label.sc-1fry39v-1"));
                         String filterText = label.getText().trim();
 
-                        String filterSlug = convertCategoryNameToSlug(filterText);
+                        String filterSlug = CategorySlugs.toSlug(filterText);
 
                         if (filterSlug.equalsIgnoreCase(expectedCategorySlug)) {
                             System.out.println("✓ Категория активна в фильтрах: " + filterText);
@@ -438,42 +396,6 @@ public class CatalogPage extends AbsBasePage<CatalogPage> {
         }
     }
 
-    /**
-     * Конвертировать название категории в slug (динамически)
-     */
-    private String convertCategoryNameToSlug(String categoryName) {
-        if (categoryName == null || categoryName.isEmpty()) {
-            return "";
-        }
-
-        // Преобразуем русское название в slug
-        String slug = categoryName.toLowerCase()
-                .replace(" ", "-")
-                .replace("(", "")
-                .replace(")", "")
-                .replace("it", "it")
-                .replace("data-science", "data-science")
-                .replace("data science", "data-science")
-                .replace("game-dev", "gamedev")
-                .replace("game dev", "gamedev");
-
-        // Специальные случаи
-        Map<String, String> specialCases = Map.of(
-                "программирование", "programming",
-                "архитектура", "architecture",
-                "инфраструктура", "operations",
-                "безопасность", "information-security-courses",
-                "управление", "marketing-business",
-                "аналитика и анализ", "analytics",
-                "бизнес и продукт в it", "business-product",
-                "it без программирования", "it-bez-programmirovanija",
-                "импортозамещение", "import-substitution",
-                "корпоративные курсы", "corporate"
-        );
-
-        return specialCases.getOrDefault(categoryName.toLowerCase(), slug);
-    }
-
     /**
      * Получить slug категории из текущего URL (динамически)
      */
@@ -1,11 +1,11 @@
 package pages;
 
 import annotations.Path;
+import com.google.inject.Inject;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 
@@ -14,6 +14,7 @@ public class CoursePage extends AbsBasePage<CoursePage> {
 
     private final By courseTitleLocator = By.cssSelector("h1");
 
+    @Inject
     public CoursePage(WebDriver driver) {
         super(driver);
     }
@@ -22,14 +23,12 @@ public class CoursePage extends AbsBasePage<CoursePage> {
      * Ожидание загрузки страницы курса
      */
     public void waitForCoursePageLoaded() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        waiter.until(ExpectedConditions.presenceOfElementLocated(courseTitleLocator), Duration.ofSeconds(10));
 
-        wait.until(ExpectedConditions.presenceOfElementLocated(courseTitleLocator));
-
-        wait.until(driver -> {
+        waiter.until(driver -> {
             String title = driver.findElement(courseTitleLocator).getText().trim();
             return !title.isEmpty();
-        });
+        }, Duration.ofSeconds(10));
 
         System.out.println("Страница курса загружена");
         System.out.println("Заголовок: " + getCourseTitle());
@@ -37,9 +36,8 @@ public class CoursePage extends AbsBasePage<CoursePage> {
     }
 
     public String getCourseTitle() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-        WebElement titleElement = wait.until(
-                ExpectedConditions.visibilityOfElementLocated(courseTitleLocator)
+        WebElement titleElement = waiter.until(
+                ExpectedConditions.visibilityOfElementLocated(courseTitleLocator), Duration.ofSeconds(5)
         );
         return titleElement.getText().trim();
     }
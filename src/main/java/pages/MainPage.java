@@ -1,24 +1,35 @@
 package pages;
 
+import Waiters.Waiter;
 import annotations.Path;
+import com.google.inject.Inject;
+import commons.ElementRow;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import testdata.TestDataManager;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.stream.Collectors;
 
 @Path("/")
 public class MainPage extends AbsBasePage<MainPage> {
 
+    private static final String CATEGORY_LINK_CSS = ".sc-4zz0i4-0.dZepSJ";
+    private static final Map<String, String> CATEGORY_FIELDS = Map.of(
+            "text", "",
+            "href", "@href"
+    );
+
     private final By popupContainer = By.cssSelector("div.sc-piuiz2-1.kdOQht");
     private final By allCoursesSection = By.xpath("//p[text()='Все курсы']/following-sibling::div");
     private final By specificCategoryLinks = By.xpath("//p[text()='Все курсы']/following-sibling::div//a[contains(@href, '/categories/')]");
     private String selectedCategorySlug;
 
+    @Inject
     public MainPage(WebDriver driver) {
         super(driver);
     }
@@ -51,8 +62,6 @@ public class MainPage extends AbsBasePage<MainPage> {
     }
 
     private WebElement findTrainingElement() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-
         // Способ 1: По точному тексту (надежнее)
         List<WebElement> elements = driver.findElements(By.xpath("//*[text()='Обучение' or contains(text(), 'Обучение')]"));
 
@@ -91,20 +100,17 @@ public class MainPage extends AbsBasePage<MainPage> {
      * Ожидать появления попапа
      */
     private void waitForPopupToAppear() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-
         try {
             System.out.println("Ожидаем появления попапа...");
-            wait.until(ExpectedConditions.visibilityOfElementLocated(popupContainer));
+            waiter.until(ExpectedConditions.visibilityOfElementLocated(popupContainer), Duration.ofSeconds(5));
             System.out.println("✓ Попап появился");
 
-            Thread.sleep(1000);
+            waiter.waitInsteadOfSleep("MainPage: анимация попапа", 1000,
+                    Waiter.visibleAndSettled(popupContainer, Duration.ofMillis(200)));
 
         } catch (TimeoutException e) {
             System.out.println("Попап не появился автоматически, проверяем альтернативно...");
             checkPopupAlternative();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
         }
     }
 
@@ -134,38 +140,39 @@ public class MainPage extends AbsBasePage<MainPage> {
 
 
     public List<WebElement> getCourseCategories() {
+        return getCourseCategoryRows().stream()
+                .map(ElementRow::getElement)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Категории курсов из попапа: текст, ссылка и элемент за один вызов
+     */
+    private List<ElementRow> getCourseCategoryRows() {
         System.out.println("Получаем категории курсов из попапа...");
 
         hoverOverTrainingMenu();
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-        wait.until(ExpectedConditions.visibilityOfElementLocated(
+        waiter.until(ExpectedConditions.visibilityOfElementLocated(
                 By.xpath("//p[text()='Направления']/following-sibling::div")
-        ));
+        ), Duration.ofSeconds(5));
 
-        List<WebElement> categories = driver.findElements(
-                By.cssSelector(".sc-4zz0i4-0.dZepSJ")
-        );
+        List<ElementRow> categories = extractRows(CATEGORY_LINK_CSS, CATEGORY_FIELDS);
 
         System.out.println("Найдено ссылок категорий: " + categories.size());
 
         return categories.stream()
                 .filter(cat -> {
-                    try {
-                        String href = cat.getAttribute("href");
-                        String text = cat.getText().trim();
-
-                        // Проверяем, что это категория курса
-                        return href != null &&
-                                href.contains("/categories/") &&
-                                !text.isEmpty() &&
-                                !text.contains("Мои курсы") &&
-                                !text.contains("Показать все") &&
-                                !text.contains("События") &&
-                                !text.contains("Другое");
-                    } catch (Exception e) {
-                        return false;
-                    }
+                    String href = cat.get("href");
+                    String text = cat.get("text");
+
+                    // Проверяем, что это категория курса
+                    return href.contains("/categories/") &&
+                            !text.isEmpty() &&
+                            !text.contains("Мои курсы") &&
+                            !text.contains("Показать все") &&
+                            !text.contains("События") &&
+                            !text.contains("Другое");
                 })
                 .collect(Collectors.toList());
     }
@@ -174,9 +181,8 @@ public class MainPage extends AbsBasePage<MainPage> {
      * Получить названия всех категорий
      */
     public List<String> getCategoryNames() {
-        return getCourseCategories().stream()
-                .map(WebElement::getText)
-                .map(String::trim)
+        return getCourseCategoryRows().stream()
+                .map(cat -> cat.get("text"))
                 .filter(text -> !text.isEmpty())
                 .distinct()
                 .toList();
@@ -188,20 +194,21 @@ public class MainPage extends AbsBasePage<MainPage> {
     public String selectRandomCategory() {
         System.out.println("\nВыбираем случайную категорию курсов...");
 
-        List<WebElement> categories = getCourseCategories();
+        List<ElementRow> categories = getCourseCategoryRows();
 
         if (categories.isEmpty()) {
             System.out.println("⚠️ Категории не найдены. Открываем общий каталог.");
-            driver.get("https://otus.ru/catalog/courses");
+            driver.get(TestDataManager.getBaseUrl() + "/catalog/courses");
             return "Все курсы";
         }
 
         Random random = new Random();
         int randomIndex = random.nextInt(categories.size());
-        WebElement randomCategory = categories.get(randomIndex);
+        ElementRow randomCategoryRow = categories.get(randomIndex);
+        WebElement randomCategory = randomCategoryRow.getElement();
 
-        String categoryName = randomCategory.getText().trim();
-        String categoryUrl = randomCategory.getAttribute("href");
+        String categoryName = randomCategoryRow.get("text");
+        String categoryUrl = toAbsoluteUrl(randomCategoryRow.get("href"));
 
         String categorySlug = extractSlugFromUrl(categoryUrl);
         this.selectedCategorySlug = categorySlug; // Сохраняем slug
@@ -216,11 +223,10 @@ public class MainPage extends AbsBasePage<MainPage> {
             System.out.println("🖱️ Кликаем по категории...");
             randomCategory.click();
 
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            wait.until(ExpectedConditions.or(
+            waiter.until(ExpectedConditions.or(
                     ExpectedConditions.urlContains("categories"),
                     ExpectedConditions.urlContains("catalog/courses")
-            ));
+            ), Duration.ofSeconds(10));
 
             System.out.println("✓ Переход на страницу категории выполнен");
 
@@ -18,8 +18,23 @@ public class TestDataManager {
         }
     }
 
+    /**
+     * Адрес сайта; в режиме replay указывает на локальный сервер фикстур
+     */
+    public static String getBaseUrl() {
+        return System.getProperty("base.url", properties.getProperty("base.url", "https://otus.ru"));
+    }
+
     public static String getWaitersTimeout() {
         return properties.getProperty("waiters.timeout");
     }
 
+    public static String getWaitersPolling() {
+        return System.getProperty("waiters.polling.ms", properties.getProperty("waiters.polling.ms", "100"));
+    }
+
+    public static String getWaitStrategy() {
+        return System.getProperty("wait.strategy", properties.getProperty("wait.strategy", "explicit"));
+    }
+
 }
@@ -0,0 +1,48 @@
+package utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Запись файлов кэшей и фикстур через временный файл и атомарное переименование:
+ * читатель видит либо старый файл целиком, либо новый, но не оборванный
+ */
+public final class AtomicFiles {
+
+    private AtomicFiles() {
+    }
+
+    public static void write(Path target, byte[] content) throws IOException {
+        Path temp = createTemp(target);
+        try {
+            Files.write(temp, content);
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static void write(Path target, Properties properties, String comment) throws IOException {
+        Path temp = createTemp(target);
+        try {
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                properties.store(output, comment);
+            }
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static Path createTemp(Path target) throws IOException {
+        return Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,44 @@
+package utils;
+
+import java.util.Map;
+
+/**
+ * Преобразование названия категории каталога в slug из URL
+ */
+public final class CategorySlugs {
+
+    private static final Map<String, String> SPECIAL_CASES = Map.of(
+            "программирование", "programming",
+            "архитектура", "architecture",
+            "инфраструктура", "operations",
+            "безопасность", "information-security-courses",
+            "управление", "marketing-business",
+            "аналитика и анализ", "analytics",
+            "бизнес и продукт в it", "business-product",
+            "it без программирования", "it-bez-programmirovanija",
+            "импортозамещение", "import-substitution",
+            "корпоративные курсы", "corporate"
+    );
+
+    private CategorySlugs() {
+    }
+
+    public static String toSlug(String categoryName) {
+        if (categoryName == null || categoryName.isEmpty()) {
+            return "";
+        }
+
+        String lowerName = categoryName.toLowerCase();
+        String special = SPECIAL_CASES.get(lowerName);
+        if (special != null) {
+            return special;
+        }
+
+        // "Data Science" -> "data-science", "Game Dev" -> "gamedev"
+        return lowerName
+                .replace(" ", "-")
+                .replace("(", "")
+                .replace(")", "")
+                .replace("game-dev", "gamedev");
+    }
+}
@@ -0,0 +1,159 @@
+package utils;
+
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Дисковый HTTP-кэш страниц курсов с условными запросами (If-None-Match / If-Modified-Since).
+ * Хранится тело страницы; на ответ 304 оно парсится заново, поэтому изменение селекторов
+ * в JsoupCourseParser сразу действует и для закэшированных страниц.
+ * Размер ограничен (-Dcoursepage.cache.max.mb), вытесняются давно не использованные записи
+ */
+public class CoursePageCache {
+
+    private static CoursePageCache instance;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final DiskLru lru;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CoursePageCache(boolean enabled, Path directory, long maxBytes) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.lru = new DiskLru(directory, maxBytes, ".properties", ".html");
+        if (enabled) {
+            lru.load();
+        }
+    }
+
+    public static synchronized CoursePageCache getInstance() {
+        if (instance == null) {
+            instance = new CoursePageCache(
+                    Boolean.parseBoolean(System.getProperty("coursepage.cache", "true")),
+                    Paths.get(System.getProperty("coursepage.cache.dir", "target/course-page-cache")),
+                    Long.getLong("coursepage.cache.max.mb", 50) * 1024 * 1024
+            );
+        }
+        return instance;
+    }
+
+    /**
+     * Загрузить и распарсить страницу курса, используя кэш. Ошибки HTTP (кроме 304) - HttpStatusException
+     */
+    public JsoupCourseParser.CoursePageInfo load(String url, int timeoutMs) throws IOException {
+        if (!enabled) {
+            return JsoupCourseParser.parseCoursePage(Jsoup.connect(url).timeout(timeoutMs).get(), url);
+        }
+
+        String key = Hashes.sha256Hex(url);
+        Properties cached = readEntry(key);
+
+        Connection connection = Jsoup.connect(url)
+                .timeout(timeoutMs)
+                .ignoreHttpErrors(true);
+        if (cached != null) {
+            String etag = cached.getProperty("etag");
+            String lastModified = cached.getProperty("lastModified");
+            if (etag != null) {
+                connection.header("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                connection.header("If-Modified-Since", lastModified);
+            }
+        }
+
+        Connection.Response response = connection.execute();
+
+        if (response.statusCode() == 304 && cached != null) {
+            hits.increment();
+            lru.touch(key);
+            System.out.println("Jsoup: страница курса не изменилась (304), берём из кэша: " + url);
+            Document doc = Jsoup.parse(directory.resolve(key + ".html").toFile(), cached.getProperty("charset"), url);
+            return JsoupCourseParser.parseCoursePage(doc, url);
+        }
+
+        if (response.statusCode() != 200) {
+            throw new HttpStatusException("HTTP error fetching URL", response.statusCode(), url);
+        }
+
+        misses.increment();
+        response.bufferUp();
+        JsoupCourseParser.CoursePageInfo info = JsoupCourseParser.parseCoursePage(response.parse(), url);
+
+        String etag = response.header("ETag");
+        String lastModified = response.header("Last-Modified");
+        if (etag != null || lastModified != null) {
+            store(key, url, etag, lastModified, response.charset(), response.bodyAsBytes());
+        }
+        return info;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public String getStats() {
+        return String.format("Кэш страниц курсов: попаданий (304) %d, промахов %d, вытеснено %d, записей %d, %d КБ из %d КБ",
+                hits.sum(), misses.sum(), lru.getEvictions(), lru.size(), lru.getTotalBytes() / 1024,
+                lru.getMaxBytes() / 1024);
+    }
+
+    /**
+     * Валидаторы записи; null, если записи нет или тело страницы потеряно
+     */
+    private Properties readEntry(String key) {
+        Path headers = directory.resolve(key + ".properties");
+        if (!Files.exists(headers) || !Files.exists(directory.resolve(key + ".html"))) {
+            return null;
+        }
+
+        try (InputStream input = Files.newInputStream(headers)) {
+            Properties properties = new Properties();
+            properties.load(input);
+            return properties;
+        } catch (IOException e) {
+            System.err.println("Кэш страниц курсов: не удалось прочитать " + headers + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String key, String url, String etag, String lastModified, String charset, byte[] body) {
+        Properties properties = new Properties();
+        properties.setProperty("url", url);
+        if (etag != null) {
+            properties.setProperty("etag", etag);
+        }
+        if (lastModified != null) {
+            properties.setProperty("lastModified", lastModified);
+        }
+        if (charset != null) {
+            properties.setProperty("charset", charset);
+        }
+
+        try {
+            Files.createDirectories(directory);
+            AtomicFiles.write(directory.resolve(key + ".html"), body);
+            AtomicFiles.write(directory.resolve(key + ".properties"), properties, null);
+            lru.written(key);
+        } catch (IOException e) {
+            System.err.println("Кэш страниц курсов: не удалось сохранить " + url + " - " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package utils;
+
+import org.jsoup.HttpStatusException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Параллельная загрузка страниц курсов на виртуальных потоках:
+ * не больше perHostLimit одновременных запросов к одному хосту,
+ * повтор при сетевых ошибках, 429 и 5xx с экспоненциальной паузой
+ */
+public class CoursePageFetcher {
+
+    private final int perHostLimit;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final int timeoutMs;
+    private final Map<String, Semaphore> hostLimits = new ConcurrentHashMap<>();
+
+    /**
+     * Настройки из -Dfetcher.host.limit, -Dfetcher.attempts, -Dfetcher.backoff.ms, -Dfetcher.timeout.ms
+     */
+    public CoursePageFetcher() {
+        this(
+                Integer.getInteger("fetcher.host.limit", 4),
+                Integer.getInteger("fetcher.attempts", 3),
+                Duration.ofMillis(Long.getLong("fetcher.backoff.ms", 300)),
+                Integer.getInteger("fetcher.timeout.ms", 10000)
+        );
+    }
+
+    public CoursePageFetcher(int perHostLimit, int maxAttempts, Duration initialBackoff, int timeoutMs) {
+        this.perHostLimit = perHostLimit;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Загрузить и распарсить страницы; i-й результат соответствует i-му URL.
+     * Для неудавшихся страниц возвращается CoursePageInfo с пустыми названием и датой
+     */
+    public List<JsoupCourseParser.CoursePageInfo> fetchAll(List<String> urls) {
+        long start = System.currentTimeMillis();
+        List<JsoupCourseParser.CoursePageInfo> results = new ArrayList<>(urls.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<JsoupCourseParser.CoursePageInfo>> futures = new ArrayList<>(urls.size());
+            for (String url : urls) {
+                futures.add(executor.submit(() -> fetch(url)));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(await(futures.get(i), urls.get(i)));
+            }
+        }
+
+        System.out.printf("Jsoup: загружено страниц курсов: %d за %d мс%n",
+                results.size(), System.currentTimeMillis() - start);
+        return results;
+    }
+
+    private JsoupCourseParser.CoursePageInfo fetch(String url) throws InterruptedException {
+        Semaphore hostLimit = hostLimits.computeIfAbsent(hostOf(url), host -> new Semaphore(perHostLimit, true));
+
+        for (int attempt = 1; ; attempt++) {
+            hostLimit.acquire();
+            try {
+                return CoursePageCache.getInstance().load(url, timeoutMs);
+            } catch (IOException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    System.err.println("Jsoup: не удалось загрузить " + url + " (попыток: " + attempt + ") - " + e.getMessage());
+                    return new JsoupCourseParser.CoursePageInfo("", "", url);
+                }
+            } finally {
+                hostLimit.release();
+            }
+
+            // Пауза вне лимита хоста, чтобы не занимать слот
+            Thread.sleep(initialBackoff.toMillis() << (attempt - 1));
+        }
+    }
+
+    private JsoupCourseParser.CoursePageInfo await(Future<JsoupCourseParser.CoursePageInfo> future, String url) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new JsoupCourseParser.CoursePageInfo("", "", url);
+        } catch (ExecutionException e) {
+            System.err.println("Jsoup: Неожиданная ошибка при парсинге: " + url + " - " + e.getCause().getMessage());
+            return new JsoupCourseParser.CoursePageInfo("", "", url);
+        }
+    }
+
+    private static boolean isRetryable(IOException e) {
+        if (e instanceof HttpStatusException) {
+            int status = ((HttpStatusException) e).getStatusCode();
+            return status == 429 || status >= 500;
+        }
+        return true;
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : url;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package utils;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.regex.Pattern;
+
+/**
+ * Классификация текста даты карточки курса, общая для Selenium- и Jsoup-парсеров.
+ * Фразы "нет даты" ищутся автоматом Ахо-Корасик за один проход без toLowerCase,
+ * формат даты проверяется заранее скомпилированным шаблоном
+ */
+public final class DateTextClassifier {
+
+    public enum Classification {
+        DATED,
+        NO_DATE,
+        UNPARSEABLE
+    }
+
+    private static final String[] NO_DATE_PHRASES = {
+            "объявлено позже",
+            "дата уточняется",
+            "будет объявлено",
+            "не указана",
+            "скоро объявим",
+            "дата старта уточняется"
+    };
+    private static final Pattern DATE_PATTERN = Pattern.compile("\\d{1,2}\\s+[а-я]+,\\s+\\d{4}");
+
+    /**
+     * Алфавит автомата: 33 буквы (RussianDateParser.letterIndex) и пробел
+     */
+    private static final int SPACE = 33;
+    private static final int ALPHABET = 34;
+    private static final int[] TRANSITIONS;
+    private static final boolean[] MATCHES;
+
+    static {
+        int maxNodes = 1;
+        for (String phrase : NO_DATE_PHRASES) {
+            maxNodes += phrase.length();
+        }
+
+        int[] transitions = new int[maxNodes * ALPHABET];
+        boolean[] matches = new boolean[maxNodes];
+        int nodes = 1;
+
+        // Бор фраз; 0 - корень и "нет перехода"
+        for (String phrase : NO_DATE_PHRASES) {
+            int node = 0;
+            for (int i = 0; i < phrase.length(); i++) {
+                int slot = node * ALPHABET + symbol(phrase.charAt(i));
+                if (transitions[slot] == 0) {
+                    transitions[slot] = nodes++;
+                }
+                node = transitions[slot];
+            }
+            matches[node] = true;
+        }
+
+        // Суффиксные ссылки обходом в ширину; недостающие переходы достраиваются до полного автомата
+        int[] fail = new int[nodes];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int child = transitions[c];
+            if (child != 0) {
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            matches[node] |= matches[fail[node]];
+            for (int c = 0; c < ALPHABET; c++) {
+                int slot = node * ALPHABET + c;
+                int child = transitions[slot];
+                if (child != 0) {
+                    fail[child] = transitions[fail[node] * ALPHABET + c];
+                    queue.add(child);
+                } else {
+                    transitions[slot] = transitions[fail[node] * ALPHABET + c];
+                }
+            }
+        }
+
+        TRANSITIONS = transitions;
+        MATCHES = matches;
+    }
+
+    private DateTextClassifier() {
+    }
+
+    public static Classification classify(CharSequence text) {
+        if (text == null || text.length() == 0 || containsNoDatePhrase(text)) {
+            return Classification.NO_DATE;
+        }
+        return DATE_PATTERN.matcher(text).find() ? Classification.DATED : Classification.UNPARSEABLE;
+    }
+
+    /**
+     * true, если дату из текста получить нельзя (фраза "нет даты" или неизвестный формат)
+     */
+    public static boolean isNoDateMessage(CharSequence text) {
+        return classify(text) != Classification.DATED;
+    }
+
+    /**
+     * Часть текста до разделителя "·" ("12 марта, 2025 · 4 месяца" -> "12 марта, 2025")
+     */
+    public static String extractDatePart(String dateText) {
+        if (dateText == null || dateText.isEmpty()) {
+            return "";
+        }
+
+        int separator = dateText.indexOf('·');
+        return (separator >= 0 ? dateText.substring(0, separator) : dateText).trim();
+    }
+
+    private static boolean containsNoDatePhrase(CharSequence text) {
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int symbol = symbol(text.charAt(i));
+            if (symbol < 0) {
+                node = 0;
+                continue;
+            }
+            node = TRANSITIONS[node * ALPHABET + symbol];
+            if (MATCHES[node]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Символ алфавита без учёта регистра; -1 для символов, которых нет во фразах
+     */
+    private static int symbol(char c) {
+        if (c == ' ' || c == '\u00A0') {
+            return SPACE;
+        }
+        return RussianDateParser.letterIndex(c);
+    }
+}
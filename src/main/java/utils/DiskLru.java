@@ -0,0 +1,142 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Порядок использования и суммарный размер записей дискового кэша.
+ * Запись - несколько файлов key + суффикс; по первому суффиксу записи находятся при старте
+ * и по времени его изменения восстанавливается порядок LRU. При превышении лимита
+ * удаляются давно не использованные записи
+ */
+public class DiskLru {
+
+    private final Path directory;
+    private final long maxBytes;
+    private final List<String> suffixes;
+    private final Map<String, Long> entrySizes = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder evictions = new LongAdder();
+    private long totalBytes;
+
+    public DiskLru(Path directory, long maxBytes, String indexSuffix, String... otherSuffixes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.suffixes = Stream.concat(Stream.of(indexSuffix), Stream.of(otherSuffixes)).collect(Collectors.toList());
+    }
+
+    /**
+     * Прочитать записи, оставшиеся от прошлых запусков
+     */
+    public synchronized void load() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        String indexSuffix = suffixes.get(0);
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> entries = files
+                    .filter(file -> file.getFileName().toString().endsWith(indexSuffix))
+                    .sorted(Comparator.comparing(DiskLru::lastModified))
+                    .collect(Collectors.toList());
+
+            for (Path index : entries) {
+                String name = index.getFileName().toString();
+                String key = name.substring(0, name.length() - indexSuffix.length());
+                long size = sizeOnDisk(key);
+                entrySizes.put(key, size);
+                totalBytes += size;
+            }
+            evictIfNeeded();
+        } catch (IOException e) {
+            System.err.println("Кэш: не удалось прочитать каталог " + directory + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Учесть записанные (или перезаписанные) файлы записи и вытеснить лишнее
+     */
+    public synchronized void written(String key) {
+        long size = sizeOnDisk(key);
+        Long previous = entrySizes.put(key, size);
+        totalBytes += size - (previous != null ? previous : 0);
+        evictIfNeeded();
+    }
+
+    /**
+     * Отметить использование записи, в том числе для следующих запусков
+     */
+    public void touch(String key) {
+        synchronized (this) {
+            entrySizes.get(key);
+        }
+        try {
+            Files.setLastModifiedTime(directory.resolve(key + suffixes.get(0)), FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // порядок вытеснения в памяти уже обновлён
+        }
+    }
+
+    public synchronized int size() {
+        return entrySizes.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, Long>> eldest = entrySizes.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            eldest.remove();
+            totalBytes -= entry.getValue();
+            evictions.increment();
+            for (String suffix : suffixes) {
+                try {
+                    Files.deleteIfExists(directory.resolve(entry.getKey() + suffix));
+                } catch (IOException e) {
+                    System.err.println("Кэш: не удалось удалить " + entry.getKey() + suffix + " - " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private long sizeOnDisk(String key) {
+        long size = 0;
+        for (String suffix : suffixes) {
+            Path file = directory.resolve(key + suffix);
+            try {
+                size += Files.exists(file) ? Files.size(file) : 0;
+            } catch (IOException ignored) {
+                // файл удалён параллельно - не учитываем
+            }
+        }
+        return size;
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -1,19 +1,63 @@
 package utils;
 
 import dto.CourseDto;
+import dto.CourseTable;
+import dto.ParsedCatalog;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
 import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.QueryParser;
+import testdata.TestDataManager;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class JsoupCourseParser {
 
+    private static final Evaluator COURSE_CARD = QueryParser.parse("a.sc-zzdkm7-0");
+    private static final Evaluator TITLE = QueryParser.parse("h1");
+    /**
+     * Селекторы даты на странице курса в порядке приоритета
+     */
+    private static final String[] DATE_SELECTORS = {
+            ".sc-157icee-1 .sc-hrqzy3-1",
+            ".course-date",
+            ".start-date",
+            "[class*='date']",
+            ".course-info__date"
+    };
+    private static final Evaluator[] DATE_EVALUATORS = Arrays.stream(DATE_SELECTORS)
+            .map(QueryParser::parse)
+            .toArray(Evaluator[]::new);
+    private static final int PARSED_CATALOG_CACHE_SIZE = 8;
+    private static final Map<String, ParsedCatalog> PARSED_CATALOGS =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ParsedCatalog> eldest) {
+                    return size() > PARSED_CATALOG_CACHE_SIZE;
+                }
+            };
+
     /**
      * Парсинг курсов из HTML (совместимый с Selenium)
      */
@@ -21,92 +65,141 @@ public class JsoupCourseParser {
         List<CourseDto> courses = new ArrayList<>();
         Document doc = Jsoup.parse(html);
 
-        Elements courseElements = doc.select("a.sc-zzdkm7-0");
+        Elements courseElements = doc.select(COURSE_CARD);
 
         System.out.println("Jsoup: найдено элементов с классом sc-zzdkm7-0: " + courseElements.size());
 
         for (Element courseElement : courseElements) {
-            try {
-                Element titleElement = courseElement.select("h6.sc-1yg5ro0-1 div.sc-hrqzy3-1").first();
-                if (titleElement == null) {
-                    continue;
-                }
-
-                String title = titleElement.text().trim();
-                if (title.isEmpty()) {
-                    continue;
-                }
-
-                Element dateElement = courseElement.select(".sc-157icee-1 .sc-hrqzy3-1").first();
-                String dateText = dateElement != null ? dateElement.text().trim() : "";
-
-                String url = courseElement.attr("href");
-                if (url.isEmpty()) {
-                    continue;
-                }
+            toCourse(courseElement).ifPresent(courses::add);
+        }
 
-                if (!url.startsWith("http")) {
-                    url = "https://otus.ru" + url;
-                }
+        System.out.println("Jsoup: успешно распарсено курсов: " + courses.size());
+        return courses;
+    }
 
-                if (isNoDateMessage(dateText)) {
-                    courses.add(new CourseDto(title, url));
-                    continue;
+    /**
+     * Потоковый парсинг: элементы приходят по мере закрытия тегов. Карточка обрабатывается и удаляется
+     * из дерева, остальные закрытые элементы вне карточек (шапка, скрипты, обёртки) удаляются сразу
+     * вместе с предшествующими текстовыми узлами. В памяти остаются только ещё открытые предки
+     * и текущая карточка, поэтому память не растёт с размером страницы. Поток нужно закрыть
+     */
+    public static Stream<CourseDto> streamCourses(Reader html) {
+        StreamParser parser = new StreamParser(Parser.htmlParser()).parse(html, TestDataManager.getBaseUrl());
+        Iterator<Element> completed = parser.iterator();
+
+        Spliterator<CourseDto> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super CourseDto> action) {
+                while (completed.hasNext()) {
+                    Element element = completed.next();
+                    Element card = element.closest(COURSE_CARD);
+                    if (card != null && card != element) {
+                        // часть ещё не закрытой карточки - понадобится при её разборе
+                        continue;
+                    }
+
+                    Optional<CourseDto> course = card != null ? toCourse(card) : Optional.empty();
+                    discardWithPrecedingSiblings(element);
+                    if (course.isPresent()) {
+                        action.accept(course.get());
+                        return true;
+                    }
                 }
+                return false;
+            }
+        };
 
-                String datePart = extractDatePart(dateText);
-
-                LocalDate startDate = CourseDto.parseDate(datePart);
+        return StreamSupport.stream(spliterator, false).onClose(parser::close);
+    }
 
-                if (startDate != null) {
-                    courses.add(new CourseDto(title, startDate, url));
-                } else {
-                    courses.add(new CourseDto(title, url));
-                }
+    /**
+     * Удалить закрытый элемент и всё, что перед ним у того же родителя (эти узлы тоже уже закрыты)
+     */
+    private static void discardWithPrecedingSiblings(Element element) {
+        Node previous;
+        while ((previous = element.previousSibling()) != null) {
+            previous.remove();
+        }
+        element.remove();
+    }
 
-            } catch (Exception e) {
-                System.err.println("Jsoup: Ошибка при парсинге курса: " + e.getMessage());
+    /**
+     * Потоковый парсинг с передачей каждого курса в обработчик; возвращает количество курсов
+     */
+    public static long streamCourses(Reader html, Consumer<CourseDto> consumer) {
+        long count = 0;
+        try (Stream<CourseDto> courses = streamCourses(html)) {
+            Iterator<CourseDto> iterator = courses.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
             }
         }
 
-        System.out.println("Jsoup: успешно распарсено курсов: " + courses.size());
-        return courses;
+        System.out.println("Jsoup: потоково распарсено курсов: " + count);
+        return count;
     }
 
     /**
-     * Извлечь часть с датой из текста
+     * Потоковый разбор сразу в колоночную таблицу: для больших каталогов и архивов снимков
      */
-    private static String extractDatePart(String dateText) {
-        if (dateText == null || dateText.isEmpty()) {
-            return "";
+    public static CourseTable parseCourseTable(Reader html) {
+        CourseTable.Builder builder = new CourseTable.Builder();
+        try (Stream<CourseDto> courses = streamCourses(html)) {
+            courses.forEach(builder::add);
         }
 
-        String[] parts = dateText.split("·");
-        return parts[0].trim();
+        CourseTable table = builder.build();
+        System.out.println("Jsoup: в таблицу курсов добавлено: " + table.size()
+                + ", уникальных строк: " + table.getDistinctStringCount());
+        return table;
     }
 
     /**
-     * Проверка сообщений об отсутствии даты (совместимая с Selenium)
+     * Курс из одной карточки каталога; пустой результат для карточек без названия или ссылки
      */
-    private static boolean isNoDateMessage(String text) {
-        if (text == null || text.isEmpty()) {
-            return true;
-        }
+    private static Optional<CourseDto> toCourse(Element courseElement) {
+        try {
+            Element titleElement = courseElement.select("h6.sc-1yg5ro0-1 div.sc-hrqzy3-1").first();
+            if (titleElement == null) {
+                return Optional.empty();
+            }
+
+            String title = titleElement.text().trim();
+            if (title.isEmpty()) {
+                return Optional.empty();
+            }
 
-        String lowerText = text.toLowerCase();
+            Element dateElement = courseElement.select(".sc-157icee-1 .sc-hrqzy3-1").first();
+            String dateText = dateElement != null ? dateElement.text().trim() : "";
 
-        if (lowerText.contains("объявлено позже") ||
-                lowerText.contains("дата уточняется") ||
-                lowerText.contains("будет объявлено") ||
-                lowerText.contains("не указана") ||
-                lowerText.contains("скоро объявим") ||
-                lowerText.contains("дата старта уточняется")) {
-            return true;
-        }
+            String url = courseElement.attr("href");
+            if (url.isEmpty()) {
+                return Optional.empty();
+            }
 
-        boolean hasValidFormat = text.matches(".*\\d{1,2}\\s+[а-я]+,\\s+\\d{4}.*");
+            if (!url.startsWith("http")) {
+                url = TestDataManager.getBaseUrl() + url;
+            }
+
+            if (DateTextClassifier.isNoDateMessage(dateText)) {
+                return Optional.of(new CourseDto(title, url));
+            }
 
-        return !hasValidFormat;
+            String datePart = DateTextClassifier.extractDatePart(dateText);
+
+            LocalDate startDate = CourseDto.parseDate(datePart);
+
+            if (startDate != null) {
+                return Optional.of(new CourseDto(title, startDate, url));
+            }
+            return Optional.of(new CourseDto(title, url));
+
+        } catch (Exception e) {
+            System.err.println("Jsoup: Ошибка при парсинге курса: " + e.getMessage());
+            return Optional.empty();
+        }
     }
 
     /**
@@ -118,68 +211,57 @@ public class JsoupCourseParser {
                 .collect(java.util.stream.Collectors.toList());
     }
 
+    /**
+     * Разобрать каталог один раз; повторные вызовы с тем же HTML берут результат из кэша по хэшу содержимого
+     */
+    public static ParsedCatalog parseCatalog(String html) {
+        String hash = Hashes.sha256Hex(html);
+        synchronized (PARSED_CATALOGS) {
+            ParsedCatalog cached = PARSED_CATALOGS.get(hash);
+            if (cached != null) {
+                System.out.println("Jsoup: каталог взят из кэша разбора (" + cached.size() + " курсов)");
+                return cached;
+            }
+        }
+
+        ParsedCatalog catalog = new ParsedCatalog(parseCoursesFromHtml(html));
+        System.out.println("Jsoup: удалено дубликатов карточек: " + catalog.getDuplicatesDropped());
+        synchronized (PARSED_CATALOGS) {
+            PARSED_CATALOGS.put(hash, catalog);
+        }
+        return catalog;
+    }
+
     /**
      * Найти курсы с самой ранней датой с помощью Jsoup
      */
     public static List<CourseDto> findEarliestCoursesWithJsoup(String html) {
-        List<CourseDto> allCourses = parseCoursesFromHtml(html);
-        List<CourseDto> coursesWithDates = filterCoursesWithDate(allCourses);
+        ParsedCatalog catalog = parseCatalog(html);
 
-        System.out.println("Jsoup: курсов с датами: " + coursesWithDates.size());
+        System.out.println("Jsoup: курсов с датами: " + catalog.getCoursesWithDates().size());
 
-        if (coursesWithDates.isEmpty()) {
+        if (catalog.getCoursesWithDates().isEmpty()) {
             System.out.println("Jsoup: Нет курсов с указанной датой");
             return List.of();
         }
 
-        Optional<LocalDate> minDate = coursesWithDates.stream()
-                .map(course -> course.getStartDate().orElse(null))
-                .filter(date -> date != null)
-                .reduce((date1, date2) -> date1.isBefore(date2) ? date1 : date2);
-
-        if (minDate.isPresent()) {
-            LocalDate earliestDate = minDate.get();
-            System.out.println("Jsoup: самая ранняя дата: " + earliestDate);
-
-            return coursesWithDates.stream()
-                    .filter(course -> course.getStartDate()
-                            .map(date -> date.equals(earliestDate))
-                            .orElse(false))
-                    .collect(java.util.stream.Collectors.toList());
-        }
-
-        return List.of();
+        System.out.println("Jsoup: самая ранняя дата: " + catalog.getEarliestDate().orElse(null));
+        return catalog.getEarliestCourses();
     }
 
     /**
      * Найти курсы с самой поздней датой с помощью Jsoup
      */
     public static List<CourseDto> findLatestCoursesWithJsoup(String html) {
-        List<CourseDto> allCourses = parseCoursesFromHtml(html);
-        List<CourseDto> coursesWithDates = filterCoursesWithDate(allCourses);
+        ParsedCatalog catalog = parseCatalog(html);
 
-        if (coursesWithDates.isEmpty()) {
+        if (catalog.getCoursesWithDates().isEmpty()) {
             System.out.println("Jsoup: Нет курсов с указанной датой");
             return List.of();
         }
 
-        Optional<LocalDate> maxDate = coursesWithDates.stream()
-                .map(course -> course.getStartDate().orElse(null))
-                .filter(date -> date != null)
-                .reduce((date1, date2) -> date1.isAfter(date2) ? date1 : date2);
-
-        if (maxDate.isPresent()) {
-            LocalDate latestDate = maxDate.get();
-            System.out.println("Jsoup: самая поздняя дата: " + latestDate);
-
-            return coursesWithDates.stream()
-                    .filter(course -> course.getStartDate()
-                            .map(date -> date.equals(latestDate))
-                            .orElse(false))
-                    .collect(java.util.stream.Collectors.toList());
-        }
-
-        return List.of();
+        System.out.println("Jsoup: самая поздняя дата: " + catalog.getLatestDate().orElse(null));
+        return catalog.getLatestCourses();
     }
 
     /**
@@ -222,52 +304,105 @@ public class JsoupCourseParser {
         try {
             System.out.println("Jsoup: парсим страницу курса: " + url);
 
-            Document doc = Jsoup.connect(url)
-                    .timeout(10000)
-                    .get();
+            return CoursePageCache.getInstance().load(url, 10000);
 
-            String title = "";
-            Element titleElement = doc.select("h1").first();
+        } catch (IOException e) {
+            System.err.println("Jsoup: Ошибка при парсинге страницы курса: " + url + " - " + e.getMessage());
+            return new CoursePageInfo("", "", url);
+        } catch (Exception e) {
+            System.err.println("Jsoup: Неожиданная ошибка при парсинге: " + url + " - " + e.getMessage());
+            return new CoursePageInfo("", "", url);
+        }
+    }
 
-            if (titleElement != null) {
-                title = titleElement.text();
-            } else {
-                titleElement = doc.select("h1.sc-1yg5ro0-1").first();
-                if (titleElement != null) {
-                    title = titleElement.text();
-                }
-            }
+    /**
+     * Параллельная загрузка и парсинг страниц курсов; результаты в порядке URL
+     */
+    public static List<CoursePageInfo> parseCoursePages(List<String> urls) {
+        return new CoursePageFetcher().fetchAll(urls);
+    }
+
+    /**
+     * Парсинг уже загруженной страницы курса
+     */
+    public static CoursePageInfo parseCoursePage(Document doc, String url) {
+        CoursePageScan scan = new CoursePageScan(doc);
+        NodeTraversor.filter(scan, doc);
 
-            String dateText = "";
+        String title = scan.title != null ? scan.title.text() : "";
+        String dateText = "";
 
-            String[] dateSelectors = {
-                    ".sc-157icee-1 .sc-hrqzy3-1",
-                    ".course-date",
-                    ".start-date",
-                    "[class*='date']",
-                    ".course-info__date"
-            };
+        int dateIndex = scan.bestDateIndex();
+        if (dateIndex >= 0) {
+            dateText = scan.firstDateTexts[dateIndex];
+            System.out.println("Jsoup: дата найдена через селектор '" + DATE_SELECTORS[dateIndex] + "': " + dateText);
+        }
 
-            for (String selector : dateSelectors) {
-                Element dateElement = doc.select(selector).first();
-                if (dateElement != null && !dateElement.text().trim().isEmpty()) {
-                    dateText = dateElement.text().trim();
-                    System.out.println("Jsoup: дата найдена через селектор '" + selector + "': " + dateText);
-                    break;
+        CoursePageInfo info = new CoursePageInfo(title, dateText, url);
+        System.out.println("Jsoup: результат парсинга: " + info);
+
+        return info;
+    }
+
+    /**
+     * Один обход страницы курса вместо select на каждый селектор: запоминает первый h1
+     * и первое совпадение каждого селектора даты. Как и раньше, селектор засчитывается,
+     * только если у его первого совпадения есть текст. Обход останавливается, как только
+     * найден h1 и все селекторы приоритетнее лучшего найденного уже проверены
+     */
+    private static class CoursePageScan implements NodeFilter {
+        private final Element root;
+        private final String[] firstDateTexts = new String[DATE_EVALUATORS.length];
+        private Element title;
+
+        CoursePageScan(Element root) {
+            this.root = root;
+        }
+
+        @Override
+        public FilterResult head(Node node, int depth) {
+            if (!(node instanceof Element)) {
+                return FilterResult.CONTINUE;
+            }
+            Element element = (Element) node;
+
+            if (title == null && TITLE.matches(root, element)) {
+                title = element;
+            }
+
+            int best = bestDateIndex();
+            int limit = best >= 0 ? best : DATE_EVALUATORS.length;
+            for (int i = 0; i < limit; i++) {
+                if (firstDateTexts[i] == null && DATE_EVALUATORS[i].matches(root, element)) {
+                    firstDateTexts[i] = element.text().trim();
                 }
             }
 
-            CoursePageInfo info = new CoursePageInfo(title, dateText, url);
-            System.out.println("Jsoup: результат парсинга: " + info);
+            return title != null && isDecided() ? FilterResult.STOP : FilterResult.CONTINUE;
+        }
 
-            return info;
+        /**
+         * Индекс самого приоритетного селектора, первое совпадение которого содержит текст, или -1
+         */
+        int bestDateIndex() {
+            for (int i = 0; i < firstDateTexts.length; i++) {
+                if (firstDateTexts[i] != null && !firstDateTexts[i].isEmpty()) {
+                    return i;
+                }
+            }
+            return -1;
+        }
 
-        } catch (IOException e) {
-            System.err.println("Jsoup: Ошибка при парсинге страницы курса: " + url + " - " + e.getMessage());
-            return new CoursePageInfo("", "", url);
-        } catch (Exception e) {
-            System.err.println("Jsoup: Неожиданная ошибка при парсинге: " + url + " - " + e.getMessage());
-            return new CoursePageInfo("", "", url);
+        private boolean isDecided() {
+            for (String text : firstDateTexts) {
+                if (text == null) {
+                    return false;
+                }
+                if (!text.isEmpty()) {
+                    return true;
+                }
+            }
+            return true;
         }
     }
 
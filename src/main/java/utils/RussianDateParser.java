@@ -0,0 +1,181 @@
+package utils;
+
+import java.time.LocalDate;
+
+/**
+ * Разбор дат вида "12 марта, 2025" без DateTimeFormatter, регулярных выражений и исключений.
+ * Строка сканируется на месте, месяц в родительном падеже определяется по префиксному дереву,
+ * результат - номер дня от эпохи (как LocalDate.toEpochDay) или NO_DATE
+ */
+public final class RussianDateParser {
+
+    public static final long NO_DATE = Long.MIN_VALUE;
+
+    private static final String[] GENITIVE_MONTHS = {
+            "января", "февраля", "марта", "апреля", "мая", "июня",
+            "июля", "августа", "сентября", "октября", "ноября", "декабря"
+    };
+    private static final int[] DAYS_IN_MONTH = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    /**
+     * Алфавит дерева: а..я (32 буквы) и ё
+     */
+    private static final int ALPHABET = 33;
+    private static final int[] TRIE_NEXT;
+    private static final int[] TRIE_MONTH;
+
+    static {
+        int maxNodes = 1;
+        for (String month : GENITIVE_MONTHS) {
+            maxNodes += month.length();
+        }
+
+        int[] next = new int[maxNodes * ALPHABET];
+        int[] monthAt = new int[maxNodes];
+        int nodes = 1;
+
+        for (int m = 0; m < GENITIVE_MONTHS.length; m++) {
+            int node = 0;
+            for (char c : GENITIVE_MONTHS[m].toCharArray()) {
+                int slot = node * ALPHABET + letterIndex(c);
+                if (next[slot] == 0) {
+                    next[slot] = nodes++;
+                }
+                node = next[slot];
+            }
+            monthAt[node] = m + 1;
+        }
+
+        TRIE_NEXT = next;
+        TRIE_MONTH = monthAt;
+    }
+
+    private RussianDateParser() {
+    }
+
+    /**
+     * Дата или null, если строка не содержит даты в ожидаемом формате
+     */
+    public static LocalDate parse(CharSequence text) {
+        long epochDay = parseEpochDay(text);
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Формат: [пробелы/·/•] день (1-2 цифры) пробелы месяц [,] пробелы/·/• год (4 цифры) [что угодно].
+     * Регистр месяца не важен
+     */
+    public static long parseEpochDay(CharSequence text) {
+        if (text == null) {
+            return NO_DATE;
+        }
+
+        int length = text.length();
+        int i = skipSeparators(text, 0);
+
+        int day = 0;
+        int dayDigits = 0;
+        while (i < length && dayDigits < 3 && isDigit(text.charAt(i))) {
+            day = day * 10 + (text.charAt(i) - '0');
+            dayDigits++;
+            i++;
+        }
+        if (dayDigits == 0 || dayDigits > 2 || i >= length || !isSpace(text.charAt(i))) {
+            return NO_DATE;
+        }
+
+        i = skipSeparators(text, i);
+
+        int node = 0;
+        int monthStart = i;
+        while (i < length) {
+            int letter = letterIndex(text.charAt(i));
+            if (letter < 0) {
+                break;
+            }
+            node = TRIE_NEXT[node * ALPHABET + letter];
+            if (node == 0) {
+                return NO_DATE;
+            }
+            i++;
+        }
+        int month = i > monthStart ? TRIE_MONTH[node] : 0;
+        if (month == 0) {
+            return NO_DATE;
+        }
+
+        if (i < length && text.charAt(i) == ',') {
+            i++;
+        }
+        i = skipSeparators(text, i);
+
+        int year = 0;
+        int yearDigits = 0;
+        while (i < length && yearDigits < 5 && isDigit(text.charAt(i))) {
+            year = year * 10 + (text.charAt(i) - '0');
+            yearDigits++;
+            i++;
+        }
+        if (yearDigits != 4) {
+            return NO_DATE;
+        }
+
+        if (day < 1 || day > DAYS_IN_MONTH[month - 1] || (month == 2 && day == 29 && !isLeap(year))) {
+            return NO_DATE;
+        }
+
+        return epochDay(year, month, day);
+    }
+
+    /**
+     * Номер дня от 1970-01-01 по пролептическому григорианскому календарю (алгоритм days_from_civil)
+     */
+    static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return (long) era * 146097 + dayOfEra - 719468;
+    }
+
+    private static boolean isLeap(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int skipSeparators(CharSequence text, int from) {
+        int i = from;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (!isSpace(c) && c != '·' && c != '•') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isSpace(char c) {
+        return Character.isWhitespace(c) || c == '\u00A0';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Индекс буквы в алфавите дерева без учёта регистра или -1
+     */
+    static int letterIndex(char c) {
+        if (c >= 'а' && c <= 'я') {
+            return c - 'а';
+        }
+        if (c >= 'А' && c <= 'Я') {
+            return c - 'А';
+        }
+        if (c == 'ё' || c == 'Ё') {
+            return 32;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,85 @@
+package benchmarks;
+
+import dto.CourseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.CategorySlugs;
+import utils.DateTextClassifier;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Обработка текста одной карточки/фильтра в текущей реализации: время на один вызов
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardTextBenchmark {
+
+    private static final int INPUTS = 1024;
+    private static final String[] CATEGORY_NAMES = {
+            "Программирование", "Архитектура", "Data Science", "Game Dev", "Тестирование",
+            "Аналитика и анализ", "IT без программирования", "Корпоративные курсы"
+    };
+
+    private String[] dateTexts;
+    private String[] dateParts;
+    private String[] categoryNames;
+
+    @Setup
+    public void setUp() {
+        dateTexts = new String[INPUTS];
+        dateParts = new String[INPUTS];
+        categoryNames = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            dateTexts[i] = CatalogHtmlGenerator.dateText(i);
+            dateParts[i] = DateTextClassifier.extractDatePart(dateTexts[i]);
+            categoryNames[i] = CATEGORY_NAMES[i % CATEGORY_NAMES.length];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void parseDate(Blackhole blackhole) {
+        for (String datePart : dateParts) {
+            blackhole.consume(CourseDto.parseDate(datePart));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void isNoDateMessage(Blackhole blackhole) {
+        for (String text : dateTexts) {
+            blackhole.consume(DateTextClassifier.isNoDateMessage(text));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void extractDatePart(Blackhole blackhole) {
+        for (String text : dateTexts) {
+            blackhole.consume(DateTextClassifier.extractDatePart(text));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void convertCategoryNameToSlug(Blackhole blackhole) {
+        for (String name : categoryNames) {
+            blackhole.consume(CategorySlugs.toSlug(name));
+        }
+    }
+}
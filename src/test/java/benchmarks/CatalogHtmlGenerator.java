@@ -0,0 +1,80 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Синтетическая страница каталога с разметкой карточек otus.ru: шапка, скрипты и обёртки
+ * вокруг каждой карточки, как на живой странице
+ */
+public final class CatalogHtmlGenerator {
+
+    private static final String[] MONTHS = {
+            "января", "февраля", "марта", "апреля", "мая", "июня",
+            "июля", "августа", "сентября", "октября", "ноября", "декабря"
+    };
+
+    private CatalogHtmlGenerator() {
+    }
+
+    public static String generate(int cards) {
+        StringBuilder sb = new StringBuilder(cards * 320);
+        appendHead(sb);
+        for (int i = 0; i < cards; i++) {
+            appendCard(sb, i);
+        }
+        appendTail(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Записать страницу в файл по частям, не держа её целиком в памяти
+     */
+    public static void write(Path file, int cards) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            StringBuilder sb = new StringBuilder(512);
+            appendHead(sb);
+            writer.append(sb);
+            for (int i = 0; i < cards; i++) {
+                sb.setLength(0);
+                appendCard(sb, i);
+                writer.append(sb);
+            }
+            sb.setLength(0);
+            appendTail(sb);
+            writer.append(sb);
+        }
+    }
+
+    /**
+     * Текст даты карточки: каждая десятая без даты, остальные в формате "12 марта, 2025 · 4 месяца"
+     */
+    public static String dateText(int index) {
+        if (index % 10 == 9) {
+            return "Дата уточняется";
+        }
+        return (index % 28 + 1) + " " + MONTHS[index % 12] + ", " + (2025 + index % 3) + " · " + (index % 9 + 1) + " месяцев";
+    }
+
+    private static void appendHead(StringBuilder sb) {
+        sb.append("<!DOCTYPE html><html><head><title>Каталог</title><script>window.__state = {};</script></head>")
+                .append("<body><header><nav><a href=\"/catalog/courses\">Курсы</a><a href=\"/events\">События</a></nav></header>")
+                .append("<main><div class=\"catalog\">");
+    }
+
+    private static void appendCard(StringBuilder sb, int index) {
+        sb.append("<div class=\"catalog-item\"><span class=\"badge\">").append(index % 5 == 0 ? "Новинка" : "Курс").append("</span>")
+                .append("<a class=\"sc-zzdkm7-0 course-card\" href=\"/lessons/course-").append(index).append("/\">")
+                .append("<h6 class=\"sc-1yg5ro0-1\"><div class=\"sc-hrqzy3-1\">Курс ").append(index).append("</div></h6>")
+                .append("<div class=\"sc-157icee-1\"><div class=\"sc-hrqzy3-1\">").append(dateText(index)).append("</div></div>")
+                .append("</a>")
+                .append("<script>window.__state.card").append(index).append(" = true;</script></div>\n");
+    }
+
+    private static void appendTail(StringBuilder sb) {
+        sb.append("</div></main></body></html>");
+    }
+}
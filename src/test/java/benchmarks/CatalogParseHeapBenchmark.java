@@ -0,0 +1,107 @@
+package benchmarks;
+
+import dto.CourseDto;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.JsoupCourseParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пиковая занятость кучи при разборе большого каталога: Document целиком против StreamParser.
+ * При потоковом разборе в дереве остаются только открытые предки и текущая карточка,
+ * поэтому пик не должен расти с числом карточек.
+ * Пик (сумма пиков heap-пулов) попадает в результат как вторичная метрика peakHeapMb
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseSerialGC"})
+public class CatalogParseHeapBenchmark {
+
+    @Param({"1000", "20000"})
+    private int cards;
+
+    private Path catalogFile;
+
+    @Setup(Level.Trial)
+    public void writeCatalog() throws IOException {
+        catalogFile = Files.createTempFile("catalog-", ".html");
+        CatalogHtmlGenerator.write(catalogFile, cards);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCatalog() throws IOException {
+        Files.deleteIfExists(catalogFile);
+    }
+
+    @Benchmark
+    public int documentParse(HeapPeak peak) throws IOException {
+        String html = Files.readString(catalogFile, StandardCharsets.UTF_8);
+        List<CourseDto> courses = JsoupCourseParser.parseCoursesFromHtml(html);
+        peak.capture();
+        return courses.size();
+    }
+
+    @Benchmark
+    public long streamingParse(HeapPeak peak) throws IOException {
+        long count;
+        try (Reader reader = Files.newBufferedReader(catalogFile, StandardCharsets.UTF_8)) {
+            count = JsoupCourseParser.streamCourses(reader, course -> { });
+        }
+        peak.capture();
+        return count;
+    }
+
+    /**
+     * Пик занятости heap-пулов за одно измерение
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapPeak {
+
+        public double peakHeapMb;
+
+        private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            System.gc();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+            peakHeapMb = 0;
+        }
+
+        void capture() {
+            long peakBytes = 0;
+            for (MemoryPoolMXBean pool : heapPools) {
+                peakBytes += pool.getPeakUsage().getUsed();
+            }
+            peakHeapMb = peakBytes / (1024.0 * 1024.0);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package benchmarks;
+
+import dto.CourseDto;
+import dto.CourseTable;
+import dto.ParsedCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.JsoupCourseParser;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Разбор каталога и поиск ранних/поздних курсов на синтетических страницах из 10, 1 000 и 100 000 карточек
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class CatalogParsingBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int cards;
+
+    private String html;
+    private List<CourseDto> courses;
+    private CourseTable table;
+    private PrintStream originalOut;
+
+    /**
+     * Парсер пишет в консоль на каждый вызов; на время замеров вывод глушится
+     */
+    @Setup
+    public void setUp() {
+        html = CatalogHtmlGenerator.generate(cards);
+        courses = JsoupCourseParser.parseCoursesFromHtml(html);
+        table = CourseTable.of(courses);
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void restoreOut() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public List<CourseDto> parseCoursesFromHtml() {
+        return JsoupCourseParser.parseCoursesFromHtml(html);
+    }
+
+    @Benchmark
+    public long streamCourses() {
+        return JsoupCourseParser.streamCourses(new StringReader(html), course -> { });
+    }
+
+    /**
+     * Прежний поиск самых ранних курсов: filter + reduce + второй проход по списку
+     */
+    @Benchmark
+    public List<CourseDto> earliestByStreamReduce() {
+        List<CourseDto> withDates = courses.stream()
+                .filter(CourseDto::hasDate)
+                .collect(Collectors.toList());
+
+        Optional<LocalDate> minDate = withDates.stream()
+                .map(course -> course.getStartDate().orElse(null))
+                .reduce((date1, date2) -> date1.isBefore(date2) ? date1 : date2);
+
+        return minDate.map(earliest -> withDates.stream()
+                        .filter(course -> course.getStartDate().map(earliest::equals).orElse(false))
+                        .collect(Collectors.toList()))
+                .orElse(List.of());
+    }
+
+    @Benchmark
+    public List<CourseDto> latestByStreamReduce() {
+        List<CourseDto> withDates = courses.stream()
+                .filter(CourseDto::hasDate)
+                .collect(Collectors.toList());
+
+        Optional<LocalDate> maxDate = withDates.stream()
+                .map(course -> course.getStartDate().orElse(null))
+                .reduce((date1, date2) -> date1.isAfter(date2) ? date1 : date2);
+
+        return maxDate.map(latest -> withDates.stream()
+                        .filter(course -> course.getStartDate().map(latest::equals).orElse(false))
+                        .collect(Collectors.toList()))
+                .orElse(List.of());
+    }
+
+    /**
+     * Построение индекса ParsedCatalog и оба запроса по нему
+     */
+    @Benchmark
+    public int earliestAndLatestByParsedCatalog() {
+        ParsedCatalog catalog = new ParsedCatalog(courses);
+        return catalog.getEarliestCourses().size() + catalog.getLatestCourses().size();
+    }
+
+    /**
+     * Те же запросы по готовой колоночной таблице
+     */
+    @Benchmark
+    public int earliestAndLatestByCourseTable() {
+        return table.getEarliestCourses().size() + table.getLatestCourses().size();
+    }
+}
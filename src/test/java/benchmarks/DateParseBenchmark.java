@@ -0,0 +1,97 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.RussianDateParser;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Разбор даты карточки: прежний CourseDto.parseDate (split + DateTimeFormatter на каждый вызов)
+ * против RussianDateParser
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateParseBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    private String[] dates;
+
+    @Setup
+    public void setUp() {
+        dates = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            dates[i] = CatalogHtmlGenerator.dateText(i).split("·")[0].trim();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void legacyParseDate(Blackhole blackhole) {
+        for (String date : dates) {
+            blackhole.consume(legacyParseDate(date));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void russianDateParser(Blackhole blackhole) {
+        for (String date : dates) {
+            blackhole.consume(RussianDateParser.parseEpochDay(date));
+        }
+    }
+
+    /**
+     * Копия CourseDto.parseDate до перехода на RussianDateParser (без вывода ошибок в консоль)
+     */
+    private static LocalDate legacyParseDate(String dateString) {
+        if (dateString == null || dateString.trim().isEmpty()) {
+            return null;
+        }
+
+        String lowerDate = dateString.toLowerCase();
+        if (lowerDate.contains("объявлено позже") ||
+                lowerDate.contains("дата уточняется") ||
+                lowerDate.contains("будет объявлено") ||
+                lowerDate.contains("не указана")) {
+            return null;
+        }
+
+        try {
+            String cleanDate = dateString.trim()
+                    .replace("·", "")
+                    .replace("•", "")
+                    .trim();
+
+            String[] parts = cleanDate.split("\\s+");
+            if (parts.length >= 3) {
+                String day = parts[0];
+                String month = parts[1].replace(",", "");
+                String year = parts[2];
+
+                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d MMMM yyyy", Locale.of("ru"));
+                return LocalDate.parse(day + " " + month + " " + year, formatter);
+            }
+        } catch (Exception ignored) {
+        }
+        return null;
+    }
+}
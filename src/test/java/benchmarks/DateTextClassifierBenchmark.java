@@ -0,0 +1,85 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.DateTextClassifier;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность проверки "нет даты": прежний isNoDateMessage
+ * (toLowerCase + шесть contains + String.matches) против DateTextClassifier
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTextClassifierBenchmark {
+
+    private static final int INPUTS = 1024;
+    private static final String[] NO_DATE_TEXTS = {
+            "Дата уточняется", "О дате старта будет объявлено позже", "Скоро объявим", "В любое время"
+    };
+
+    private String[] texts;
+
+    @Setup
+    public void setUp() {
+        texts = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            texts[i] = i % 8 == 7 ? NO_DATE_TEXTS[i % NO_DATE_TEXTS.length] : CatalogHtmlGenerator.dateText(i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void legacyIsNoDateMessage(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(legacyIsNoDateMessage(text));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void classifier(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(DateTextClassifier.classify(text));
+        }
+    }
+
+    /**
+     * Копия прежней проверки из CatalogPage/JsoupCourseParser
+     */
+    private static boolean legacyIsNoDateMessage(String text) {
+        if (text == null || text.isEmpty()) {
+            return true;
+        }
+
+        String lowerText = text.toLowerCase();
+
+        if (lowerText.contains("объявлено позже") ||
+                lowerText.contains("дата уточняется") ||
+                lowerText.contains("будет объявлено") ||
+                lowerText.contains("не указана") ||
+                lowerText.contains("скоро объявим") ||
+                lowerText.contains("дата старта уточняется")) {
+            return true;
+        }
+
+        boolean hasValidFormat = text.matches(".*\\d{1,2}\\s+[а-я]+,\\s+\\d{4}.*");
+
+        return !hasValidFormat;
+    }
+}
@@ -0,0 +1,95 @@
+package benchmarks;
+
+import annotations.Path;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import commons.PageMetadata;
+import extensions.UIExtension;
+import modules.ToolsGuiceModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+import pages.CatalogPage;
+import pages.CoursePage;
+import pages.MainPage;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость подготовки окружения одного теста: старый путь (инжектор на каждый объект
+ * и жадное создание всех страниц) против дочернего инжектора с ленивыми страницами,
+ * а также чтение @Path через reflection против кэша PageMetadata
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSetupBenchmark {
+
+    private WebDriver driver;
+
+    @Setup
+    public void setUp() {
+        driver = StubWebDriver.create();
+    }
+
+    /**
+     * Как было: PageGuiceModule создаёт все страницы через toInstance,
+     * а каждая страница поднимает собственный инжектор
+     */
+    @Benchmark
+    public CatalogPage legacyPerTestSetup() {
+        Injector injector = Guice.createInjector(
+                new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        bind(CatalogPage.class).toInstance(legacyPage(new CatalogPage(driver)));
+                        bind(CoursePage.class).toInstance(legacyPage(new CoursePage(driver)));
+                        bind(MainPage.class).toInstance(legacyPage(new MainPage(driver)));
+                    }
+                },
+                new ToolsGuiceModule(driver)
+        );
+        return injector.getInstance(CatalogPage.class);
+    }
+
+    /**
+     * Как стало: один дочерний инжектор, создаётся только используемая страница
+     */
+    @Benchmark
+    public CatalogPage childInjectorPerTestSetup() {
+        return UIExtension.createTestInjector(driver).getInstance(CatalogPage.class);
+    }
+
+    /**
+     * Как было: путь страницы читался через reflection при каждом open()
+     */
+    @Benchmark
+    public String legacyPathLookup() {
+        return CatalogPage.class.getAnnotation(Path.class).value();
+    }
+
+    /**
+     * Как стало: путь вычисляется один раз на класс (ClassValue)
+     */
+    @Benchmark
+    public String cachedPathLookup() {
+        return PageMetadata.getPath(CatalogPage.class);
+    }
+
+    private <T> T legacyPage(T page) {
+        Guice.createInjector(new ToolsGuiceModule(driver)).injectMembers(page);
+        return page;
+    }
+}
@@ -0,0 +1,41 @@
+package benchmarks;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * WebDriver-заглушка для бенчмарков без браузера: все вызовы возвращают значения по умолчанию
+ */
+public final class StubWebDriver {
+
+    private StubWebDriver() {
+    }
+
+    public static WebDriver create() {
+        return (WebDriver) Proxy.newProxyInstance(
+                StubWebDriver.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == boolean.class) {
+                        return false;
+                    }
+                    if (returnType == int.class) {
+                        return 0;
+                    }
+                    if (returnType == long.class) {
+                        return 0L;
+                    }
+                    return null;
+                }
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package main;
+
+import Waiters.WaitStrategy;
+import Waiters.Waiter;
+import com.google.inject.Inject;
+import extensions.UIExtension;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.List;
+
+import static io.qameta.allure.Allure.step;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@ExtendWith(UIExtension.class)
+@Epic("Инфраструктура")
+@Feature("Стратегия ожиданий")
+@DisplayName("Отрицательные проверки отсутствующих элементов")
+@Owner("Автоматизатор")
+@Severity(SeverityLevel.NORMAL)
+public class AbsentElementLookupTest {
+
+    private static final long MAX_NEGATIVE_LOOKUP_MS = 500;
+    private static final By ABSENT_ELEMENT = By.cssSelector("button.sc-1qig7zt-0.bYRRHi.sc-prqxfo-0.cXVWAS");
+
+    @Inject
+    private WebDriver driver;
+
+    @Inject
+    private Waiter waiter;
+
+    @Test
+    @DisplayName("Поиск отсутствующего элемента завершается за миллисекунды")
+    @Description("При выключенном implicit wait findElements и проверка невидимости не блокируют тест")
+    public void absentElementLookupReturnsFast() {
+        assumeTrue(WaitStrategy.current() == WaitStrategy.EXPLICIT, "Проверка только для режима explicit");
+
+        step("Шаг 1: Открыть локальную HTML-фикстуру", () -> {
+            driver.get(getClass().getResource("/fixtures/absent-element.html").toString());
+            assertThat(driver.findElements(By.cssSelector("h1.present"))).hasSize(1);
+        });
+
+        step("Шаг 2: findElements для отсутствующего элемента", () -> {
+            long start = System.nanoTime();
+            List<WebElement> elements = driver.findElements(ABSENT_ELEMENT);
+            long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            Allure.addAttachment("Время поиска", elapsedMs + " мс");
+            assertThat(elements).isEmpty();
+            assertThat(elapsedMs)
+                    .as("Отрицательный поиск не должен ждать implicit wait")
+                    .isLessThan(MAX_NEGATIVE_LOOKUP_MS);
+        });
+
+        step("Шаг 3: Ожидание невидимости отсутствующего элемента", () -> {
+            long start = System.nanoTime();
+            boolean notVisible = waiter.waitForElementNotVisible(ABSENT_ELEMENT);
+            long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            Allure.addAttachment("Время ожидания", elapsedMs + " мс");
+            assertThat(notVisible).isTrue();
+            assertThat(elapsedMs)
+                    .as("Проверка невидимости отсутствующего элемента должна завершаться сразу")
+                    .isLessThan(MAX_NEGATIVE_LOOKUP_MS);
+        });
+    }
+}
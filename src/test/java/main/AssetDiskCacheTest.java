@@ -0,0 +1,106 @@
+package main;
+
+import io.qameta.allure.*;
+import network.AssetDiskCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static io.qameta.allure.Allure.step;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Инфраструктура")
+@Feature("Перехват сети")
+@DisplayName("Cache-Control, перепроверка и вытеснение в кэше статических ресурсов")
+@Owner("Автоматизатор")
+@Severity(SeverityLevel.NORMAL)
+public class AssetDiskCacheTest {
+
+    private static final String SCRIPT_URL = "https://otus.ru/static/app.js";
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    @DisplayName("В пределах max-age ресурс отдаётся из кэша, no-store и private не сохраняются")
+    public void honoursCacheControl() {
+        AssetDiskCache cache = new AssetDiskCache(cacheDir, 1024 * 1024);
+
+        cache.put(SCRIPT_URL, response("app", "public, max-age=600", null));
+        cache.put("https://otus.ru/static/user.js", response("user", "no-store", "\"u1\""));
+        cache.put("https://otus.ru/static/profile.js", response("profile", "private, max-age=600", "\"p1\""));
+
+        Optional<AssetDiskCache.Entry> cached = cache.get(SCRIPT_URL);
+        assertThat(cached).isPresent();
+        assertThat(cached.get().isFresh()).isTrue();
+        assertThat(Contents.string(cached.get().toResponse())).isEqualTo("app");
+        assertThat(cache.get("https://otus.ru/static/user.js")).isEmpty();
+        assertThat(cache.get("https://otus.ru/static/profile.js")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Без max-age ресурс перепроверяется по ETag, ответ 304 продлевает запись")
+    public void revalidatesWithEtag() {
+        AssetDiskCache cache = new AssetDiskCache(cacheDir, 1024 * 1024);
+        cache.put(SCRIPT_URL, response("app v1", "no-cache", "\"v1\""));
+
+        AssetDiskCache.Entry stale = cache.get(SCRIPT_URL).orElseThrow();
+        assertThat(stale.isFresh()).isFalse();
+        assertThat(stale.canRevalidate()).isTrue();
+        HttpRequest conditional = stale.conditional(new HttpRequest(HttpMethod.GET, SCRIPT_URL));
+        assertThat(conditional.getHeader("If-None-Match")).isEqualTo("\"v1\"");
+
+        HttpResponse notModified = new HttpResponse().setStatus(304).setHeader("Cache-Control", "max-age=600");
+        HttpResponse served = cache.revalidated(SCRIPT_URL, stale, notModified);
+
+        assertThat(served.getStatus()).isEqualTo(200);
+        assertThat(Contents.string(served)).isEqualTo("app v1");
+        AssetDiskCache.Entry renewed = cache.get(SCRIPT_URL).orElseThrow();
+        assertThat(renewed.isFresh()).isTrue();
+        assertThat(renewed.toResponse().getHeader("ETag")).isEqualTo("\"v1\"");
+    }
+
+    @Test
+    @DisplayName("При превышении размера вытесняются давно не использованные ресурсы")
+    public void evictsLeastRecentlyUsedEntries() throws IOException {
+        AssetDiskCache cache = new AssetDiskCache(cacheDir, 1500);
+
+        for (String name : List.of("a", "b", "c", "d")) {
+            cache.put("https://otus.ru/static/" + name + ".js", response("x".repeat(400), "max-age=600", null));
+        }
+
+        step("Проверить размер каталога кэша: " + cache.getStats(), () -> {
+            long cachedBytes;
+            try (Stream<Path> files = Files.list(cacheDir)) {
+                cachedBytes = files.mapToLong(file -> file.toFile().length()).sum();
+            }
+            assertThat(cachedBytes).isLessThanOrEqualTo(1500);
+            assertThat(cache.get("https://otus.ru/static/a.js")).isEmpty();
+            assertThat(cache.get("https://otus.ru/static/d.js")).isPresent();
+        });
+    }
+
+    private static HttpResponse response(String body, String cacheControl, String etag) {
+        HttpResponse response = new HttpResponse()
+                .setStatus(200)
+                .setHeader("Content-Type", "application/javascript")
+                .setHeader("Cache-Control", cacheControl)
+                .setContent(Contents.bytes(body.getBytes(StandardCharsets.UTF_8)));
+        if (etag != null) {
+            response.setHeader("ETag", etag);
+        }
+        return response;
+    }
+}
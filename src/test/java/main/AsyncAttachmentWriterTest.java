@@ -0,0 +1,148 @@
+package main;
+
+import config.AsyncAttachmentWriter;
+import io.qameta.allure.*;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.TestResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Isolated;
+import utils.Hashes;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Вложения пишутся в отдельный каталог результатов через собственный AllureLifecycle;
+ * глобальный lifecycle подменяется, поэтому класс не выполняется параллельно с другими
+ */
+@Isolated
+@Epic("Инфраструктура")
+@Feature("Вложения Allure")
+@DisplayName("Фоновая запись вложений Allure")
+@Owner("Автоматизатор")
+@Severity(SeverityLevel.NORMAL)
+public class AsyncAttachmentWriterTest {
+
+    @TempDir
+    Path resultsDir;
+
+    private AllureLifecycle originalLifecycle;
+    private AllureLifecycle lifecycle;
+    private String testUuid;
+
+    @BeforeEach
+    public void startTestCase() {
+        originalLifecycle = Allure.getLifecycle();
+        lifecycle = new AllureLifecycle(new FileSystemResultsWriter(resultsDir));
+        Allure.setLifecycle(lifecycle);
+
+        testUuid = UUID.randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult().setUuid(testUuid).setName("attachments"));
+        lifecycle.startTestCase(testUuid);
+    }
+
+    @AfterEach
+    public void restoreLifecycle() {
+        Allure.setLifecycle(originalLifecycle);
+    }
+
+    @Test
+    @DisplayName("После flush все вложения записаны в каталог результатов")
+    public void flushWritesAllAttachments() throws IOException {
+        AsyncAttachmentWriter writer = AsyncAttachmentWriter.getInstance();
+        List<String> contents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String text = "вложение " + i + " " + UUID.randomUUID();
+            contents.add(text);
+            writer.attach("Текст " + i, "text/plain", ".txt", () -> text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        writer.flush();
+
+        List<Attachment> links = finishTestCase();
+        assertThat(links).hasSize(5);
+        assertThat(attachmentFiles()).hasSize(5);
+        for (int i = 0; i < links.size(); i++) {
+            assertThat(resultsDir.resolve(links.get(i).getSource()))
+                    .exists()
+                    .usingCharset(StandardCharsets.UTF_8)
+                    .hasContent(contents.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Одинаковое содержимое записывается один раз, ссылок столько же, сколько вложений")
+    public void identicalSharedAttachmentsAreStoredOnce() throws IOException {
+        AsyncAttachmentWriter writer = AsyncAttachmentWriter.getInstance();
+        byte[] html = ("<html><body>" + UUID.randomUUID() + "</body></html>").getBytes(StandardCharsets.UTF_8);
+
+        writer.attachShared("HTML 1", "text/html", ".html", () -> html);
+        writer.attachShared("HTML 2", "text/html", ".html", () -> html);
+        writer.flush();
+
+        List<Attachment> links = finishTestCase();
+        assertThat(links).extracting(Attachment::getName).containsExactly("HTML 1", "HTML 2");
+        assertThat(links.get(0).getSource()).isEqualTo(links.get(1).getSource());
+        assertThat(attachmentFiles()).containsExactly(links.get(0).getSource());
+        assertThat(resultsDir.resolve(links.get(0).getSource())).hasBinaryContent(html);
+    }
+
+    @Test
+    @DisplayName("Результат теста записывается с итоговым именем файла, посчитанным в фоне")
+    public void resultIsWrittenWithResolvedSource() throws IOException {
+        byte[] png = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+
+        AsyncAttachmentWriter.getInstance().attachShared("Скриншот", "image/png", ".png", () -> {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return png;
+        });
+
+        List<Attachment> links = finishTestCase();
+        String expectedSource = Hashes.sha256Hex(png) + "-attachment.png";
+        assertThat(links).extracting(Attachment::getSource).containsExactly(expectedSource);
+        try (Stream<Path> files = Files.list(resultsDir)) {
+            Path result = files.filter(file -> file.getFileName().toString().endsWith("-result.json"))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(Files.readString(result)).contains(expectedSource);
+        }
+        AsyncAttachmentWriter.getInstance().flush();
+        assertThat(resultsDir.resolve(expectedSource)).hasBinaryContent(png);
+    }
+
+    /**
+     * Завершить и записать тест; возвращает ссылки на вложения (те же объекты, что попали в результат)
+     */
+    private List<Attachment> finishTestCase() {
+        List<Attachment> links = new ArrayList<>();
+        lifecycle.stopTestCase(testUuid);
+        lifecycle.updateTestCase(testUuid, result -> links.addAll(result.getAttachments()));
+        lifecycle.writeTestCase(testUuid);
+        return links;
+    }
+
+    private List<String> attachmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(resultsDir)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.contains("-attachment"))
+                    .collect(Collectors.toList());
+        }
+    }
+}
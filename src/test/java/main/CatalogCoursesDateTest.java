@@ -1,7 +1,9 @@
 package main;
 
+import Waiters.Waiter;
 import com.google.inject.Inject;
 import dto.CourseDto;
+import dto.ParsedCatalog;
 import extensions.UIExtension;
 import io.qameta.allure.*;
 import org.junit.jupiter.api.DisplayName;
@@ -12,9 +14,12 @@ import org.junit.jupiter.params.provider.CsvSource;
 import pages.CatalogPage;
 import utils.JsoupCourseParser;
 
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Collectors;
 
 import static io.qameta.allure.Allure.step;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,6 +36,9 @@ public class CatalogCoursesDateTest {
     @Inject
     private CatalogPage catalogPage;
 
+    @Inject
+    private Waiter waiter;
+
     @Test
     @DisplayName("Найти курсы с самой ранней и поздней датой начала")
     @Description("Использование Stream API и reduce для поиска курсов с минимальной и максимальной датой начала. Проверка с использованием Jsoup.")
@@ -40,11 +48,9 @@ public class CatalogCoursesDateTest {
             String currentUrl = catalogPage.getCurrentUrl();
             Allure.addAttachment("Каталог открыт", "URL: " + currentUrl);
 
-            try {
-                Thread.sleep(2000); // Ждем полной загрузки
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            // Ждем полной загрузки: DOM и сеть затихли
+            waiter.waitInsteadOfSleep("CatalogCoursesDateTest: загрузка каталога", 2000,
+                    Waiter.domIdle(Duration.ofMillis(500)));
         });
 
         step("Шаг 2: Вывести статистику курсов", () -> {
@@ -114,13 +120,13 @@ public class CatalogCoursesDateTest {
         });
 
         step("Шаг 7: Сравнить результаты Selenium и Jsoup", () -> {
-            String pageHtml = catalogPage.getPageHtml();
+            ParsedCatalog parsedCatalog = JsoupCourseParser.parseCatalog(catalogPage.getPageHtml());
 
             List<CourseDto> earliestSelenium = catalogPage.findCoursesWithEarliestDate();
-            List<CourseDto> earliestJsoup = JsoupCourseParser.findEarliestCoursesWithJsoup(pageHtml);
+            List<CourseDto> earliestJsoup = parsedCatalog.getEarliestCourses();
 
             List<CourseDto> latestSelenium = catalogPage.findCoursesWithLatestDate();
-            List<CourseDto> latestJsoup = JsoupCourseParser.findLatestCoursesWithJsoup(pageHtml);
+            List<CourseDto> latestJsoup = parsedCatalog.getLatestCourses();
 
             Allure.addAttachment("Сравнение результатов",
                     "Ранние курсы:\n" +
@@ -149,25 +155,25 @@ public class CatalogCoursesDateTest {
             }
         });
 
-        step("Шаг 8: Проверить данные на странице курса с помощью Jsoup", () -> {
-            List<CourseDto> earliestCourses = catalogPage.findCoursesWithEarliestDate();
+        step("Шаг 8: Проверить данные на страницах ранних и поздних курсов с помощью Jsoup", () -> {
+            List<CourseDto> coursesToCheck = new ArrayList<>(catalogPage.findCoursesWithEarliestDate());
+            coursesToCheck.addAll(catalogPage.findCoursesWithLatestDate());
 
-            if (!earliestCourses.isEmpty()) {
-                CourseDto earliestCourse = earliestCourses.get(0);
-                Allure.addAttachment("Проверка курса Jsoup",
-                        "Курс: " + earliestCourse.getTitle() + "\n" +
-                                "URL: " + earliestCourse.getUrl());
+            if (!coursesToCheck.isEmpty()) {
+                List<String> urls = coursesToCheck.stream()
+                        .map(CourseDto::getUrl)
+                        .distinct()
+                        .collect(Collectors.toList());
 
-                JsoupCourseParser.CoursePageInfo pageInfo =
-                        JsoupCourseParser.parseCoursePage(earliestCourse.getUrl());
+                List<JsoupCourseParser.CoursePageInfo> pages = JsoupCourseParser.parseCoursePages(urls);
 
-                Allure.addAttachment("Результат парсинга Jsoup",
-                        "Заголовок на странице: " + pageInfo.getTitle() + "\n" +
-                                "Дата на странице: " + pageInfo.getDateText());
+                Allure.addAttachment("Результат парсинга Jsoup", pages.stream()
+                        .map(page -> page.getUrl() + "\n  Заголовок: " + page.getTitle() + "\n  Дата: " + page.getDateText())
+                        .collect(Collectors.joining("\n")));
 
-                assertThat(pageInfo.getTitle())
-                        .as("Название курса на странице не должно быть пустым")
-                        .isNotEmpty();
+                assertThat(pages)
+                        .as("Название курса на каждой странице не должно быть пустым")
+                        .allSatisfy(page -> assertThat(page.getTitle()).as(page.getUrl()).isNotEmpty());
             }
         });
     }
@@ -0,0 +1,45 @@
+package main;
+
+import io.qameta.allure.*;
+import listeners.CommandMetricsListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Инфраструктура")
+@Feature("Метрики команд WebDriver")
+@DisplayName("Замер команд WebDriver")
+@Owner("Автоматизатор")
+@Severity(SeverityLevel.NORMAL)
+public class CommandMetricsListenerTest {
+
+    @Test
+    @DisplayName("Упавшая команда учитывается со своим локатором, следующие команды замеряются как обычно")
+    public void failedCommandKeepsLocatorAndTimingStack() throws Exception {
+        CommandMetricsListener listener = new CommandMetricsListener();
+        Method findElement = WebDriver.class.getMethod("findElement", By.class);
+        Method getTitle = WebDriver.class.getMethod("getTitle");
+        Object[] missingArgs = {By.cssSelector(".missing")};
+
+        listener.beforeAnyCall(null, findElement, missingArgs);
+        listener.onError(null, findElement, missingArgs,
+                new InvocationTargetException(new NoSuchElementException("нет элемента")));
+
+        listener.beforeAnyCall(null, getTitle, new Object[0]);
+        Thread.sleep(20);
+        listener.afterAnyCall(null, getTitle, new Object[0], "title");
+
+        String json = listener.snapshotAndReset().toJson();
+        assertThat(json)
+                .contains("\"command\": \"findElement (ошибка)\"", "\"locator\": \"By.cssSelector: .missing\"")
+                .contains("\"command\": \"getTitle\"");
+        assertThat(listener.snapshotAndReset().isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,138 @@
+package main;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utils.CoursePageCache;
+import utils.JsoupCourseParser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static io.qameta.allure.Allure.step;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Инфраструктура")
+@Feature("Загрузка страниц курсов")
+@DisplayName("Условные запросы и вытеснение в кэше страниц курсов")
+@Owner("Автоматизатор")
+@Severity(SeverityLevel.NORMAL)
+public class CoursePageCacheTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+    @BeforeEach
+    public void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/lessons/", this::coursePage);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void stopStubServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Повторная загрузка получает 304 и берёт распарсенный результат из кэша")
+    public void notModifiedResponseSkipsDownloadAndParsing() throws IOException {
+        CoursePageCache cache = new CoursePageCache(true, cacheDir, 1024 * 1024);
+        String url = baseUrl + "/lessons/java/";
+
+        JsoupCourseParser.CoursePageInfo first = cache.load(url, 5000);
+        JsoupCourseParser.CoursePageInfo second = cache.load(url, 5000);
+
+        step("Проверить счётчики кэша: " + cache.getStats(), () -> {
+            assertThat(first.getTitle()).isEqualTo("Курс java");
+            assertThat(second.getTitle()).isEqualTo(first.getTitle());
+            assertThat(second.getDateText()).isEqualTo(first.getDateText());
+
+            assertThat(fullResponses.get()).isEqualTo(1);
+            assertThat(notModifiedResponses.get()).isEqualTo(1);
+            assertThat(cache.getMisses()).isEqualTo(1);
+            assertThat(cache.getHits()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("Без сохранённого тела страницы запрос идёт без условий и страница парсится заново")
+    public void missingBodyForcesFullDownload() throws IOException {
+        CoursePageCache cache = new CoursePageCache(true, cacheDir, 1024 * 1024);
+        String url = baseUrl + "/lessons/java/";
+
+        cache.load(url, 5000);
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path body : files.filter(file -> file.toString().endsWith(".html")).toArray(Path[]::new)) {
+                Files.delete(body);
+            }
+        }
+        JsoupCourseParser.CoursePageInfo reloaded = cache.load(url, 5000);
+
+        assertThat(reloaded.getTitle()).isEqualTo("Курс java");
+        assertThat(fullResponses.get()).isEqualTo(2);
+        assertThat(notModifiedResponses.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("При превышении размера вытесняются давно не использованные страницы")
+    public void evictsLeastRecentlyUsedEntries() throws IOException {
+        CoursePageCache cache = new CoursePageCache(true, cacheDir, 1200);
+
+        for (String slug : List.of("a", "b", "c", "d")) {
+            cache.load(baseUrl + "/lessons/" + slug + "/", 5000);
+        }
+
+        step("Проверить размер каталога кэша: " + cache.getStats(), () -> {
+            long cachedBytes;
+            try (Stream<Path> files = Files.list(cacheDir)) {
+                cachedBytes = files.mapToLong(file -> file.toFile().length()).sum();
+            }
+            assertThat(cachedBytes).isLessThanOrEqualTo(1200);
+            assertThat(cache.load(baseUrl + "/lessons/d/", 5000).getTitle()).isEqualTo("Курс d");
+            assertThat(cache.getHits()).isEqualTo(1);
+        });
+    }
+
+    private void coursePage(HttpExchange exchange) throws IOException {
+        if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModifiedResponses.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        fullResponses.incrementAndGet();
+        String slug = exchange.getRequestURI().getPath().replaceAll(".*/lessons/([^/]+)/?", "$1");
+        byte[] body = ("<html><body><h1>Курс " + slug + "</h1>"
+                + "<div class=\"sc-157icee-1\"><p class=\"sc-hrqzy3-1\">12 марта, 2025</p></div>"
+                + "<p>" + "x".repeat(200) + "</p></body></html>").getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.getResponseHeaders().set("ETag", ETAG);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package main;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import utils.CoursePageFetcher;
+import utils.JsoupCourseParser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.qameta.allure.Allure.step;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Инфраструктура")
+@Feature("Загрузка страниц курсов")
+@DisplayName("Параллельная загрузка страниц курсов через Jsoup")
+@Owner("Автоматизатор")
+@Severity(SeverityLevel.NORMAL)
+public class CoursePageFetcherTest {
+
+    private static final int HOST_LIMIT = 2;
+    private static final long RESPONSE_DELAY_MS = 100;
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final AtomicInteger maxActiveRequests = new AtomicInteger();
+    private final AtomicInteger flakyAttempts = new AtomicInteger();
+    private final AtomicInteger missingAttempts = new AtomicInteger();
+
+    @BeforeEach
+    public void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/lessons/", this::coursePage);
+        server.createContext("/flaky/", exchange -> {
+            if (flakyAttempts.incrementAndGet() < 3) {
+                respond(exchange, 503, "");
+            } else {
+                respond(exchange, 200, page("Нестабильный курс"));
+            }
+        });
+        server.createContext("/missing/", exchange -> {
+            missingAttempts.incrementAndGet();
+            respond(exchange, 404, "");
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void stopStubServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Результаты в порядке URL, не больше лимита запросов на хост")
+    public void fetchesInOrderWithinHostLimit() {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            urls.add(baseUrl + "/lessons/course-" + i + "/");
+        }
+
+        List<JsoupCourseParser.CoursePageInfo> pages = step("Загрузить 8 страниц", () ->
+                new CoursePageFetcher(HOST_LIMIT, 1, Duration.ofMillis(10), 5000).fetchAll(urls));
+
+        step("Проверить порядок и лимит", () -> {
+            assertThat(pages).hasSize(urls.size());
+            for (int i = 0; i < urls.size(); i++) {
+                assertThat(pages.get(i).getUrl()).isEqualTo(urls.get(i));
+                assertThat(pages.get(i).getTitle()).isEqualTo("Курс course-" + i);
+                assertThat(pages.get(i).getDateText()).isEqualTo("12 марта, 2025");
+            }
+            assertThat(maxActiveRequests.get())
+                    .as("Одновременных запросов к хосту")
+                    .isBetween(1, HOST_LIMIT);
+        });
+    }
+
+    @Test
+    @DisplayName("Ответы 5xx повторяются, 404 - нет")
+    public void retriesServerErrorsOnly() {
+        List<JsoupCourseParser.CoursePageInfo> pages = step("Загрузить нестабильную и отсутствующую страницы", () ->
+                new CoursePageFetcher(HOST_LIMIT, 3, Duration.ofMillis(10), 5000)
+                        .fetchAll(List.of(baseUrl + "/flaky/course/", baseUrl + "/missing/course/")));
+
+        step("Проверить повторы", () -> {
+            assertThat(pages.get(0).getTitle()).isEqualTo("Нестабильный курс");
+            assertThat(flakyAttempts.get()).isEqualTo(3);
+
+            assertThat(pages.get(1).getTitle()).isEmpty();
+            assertThat(missingAttempts.get()).isEqualTo(1);
+        });
+    }
+
+    private void coursePage(HttpExchange exchange) throws IOException {
+        int active = activeRequests.incrementAndGet();
+        maxActiveRequests.accumulateAndGet(active, Math::max);
+        try {
+            Thread.sleep(RESPONSE_DELAY_MS);
+            String slug = exchange.getRequestURI().getPath().replaceAll(".*/lessons/([^/]+)/?", "$1");
+            respond(exchange, 200, page("Курс " + slug));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            activeRequests.decrementAndGet();
+        }
+    }
+
+    private static String page(String title) {
+        return "<html><body><h1>" + title + "</h1>"
+                + "<div class=\"sc-157icee-1\"><p class=\"sc-hrqzy3-1\">12 марта, 2025</p></div></body></html>";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package main;
+
+import io.qameta.allure.*;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import utils.JsoupCourseParser;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@Epic("Инфраструктура")
+@Feature("Загрузка страниц курсов")
+@DisplayName("Однопроходный поиск заголовка и даты на странице курса")
+@Owner("Автоматизатор")
+@Severity(SeverityLevel.NORMAL)
+public class CoursePageScanTest {
+
+    private static final String URL = "https://otus.ru/lessons/java/";
+
+    /**
+     * Селекторы даты прежнего цикла select, в порядке приоритета
+     */
+    private static final String[] LEGACY_DATE_SELECTORS = {
+            ".sc-157icee-1 .sc-hrqzy3-1",
+            ".course-date",
+            ".start-date",
+            "[class*='date']",
+            ".course-info__date"
+    };
+
+    static Stream<Arguments> pages() {
+        return Stream.of(
+                arguments("Приоритетный селектор с пустым первым совпадением",
+                        "<h1>Java</h1>"
+                                + "<div class='sc-157icee-1'><p class='sc-hrqzy3-1'> </p></div>"
+                                + "<div class='sc-157icee-1'><p class='sc-hrqzy3-1'>1 мая, 2025</p></div>"
+                                + "<p class='start-date'>12 марта, 2025</p>",
+                        "Java", "12 марта, 2025"),
+                arguments("[class*='date'] в документе раньше .course-info__date",
+                        "<h1>Java</h1>"
+                                + "<span class='update-date'>обновлено 3 января, 2025</span>"
+                                + "<p class='course-info__date'>5 апреля, 2025</p>",
+                        "Java", "обновлено 3 января, 2025"),
+                arguments("Приоритетный селектор после менее приоритетного",
+                        "<p class='course-info__date'>5 апреля, 2025</p>"
+                                + "<h1>Java</h1>"
+                                + "<p class='course-date'>7 июня, 2025</p>",
+                        "Java", "7 июня, 2025"),
+                arguments("Нет h1",
+                        "<h2>Java</h2><p class='course-date'>7 июня, 2025</p>",
+                        "", "7 июня, 2025"),
+                arguments("Нет элемента с датой",
+                        "<h1>Java</h1><p>О курсе</p>",
+                        "Java", ""),
+                arguments("Пустая страница",
+                        "",
+                        "", "")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("pages")
+    @DisplayName("Результат совпадает с прежним циклом select по селекторам")
+    public void matchesLegacySelectLoop(String name, String body, String expectedTitle, String expectedDate) {
+        Document doc = Jsoup.parse("<html><body>" + body + "</body></html>", URL);
+
+        JsoupCourseParser.CoursePageInfo info = JsoupCourseParser.parseCoursePage(doc, URL);
+
+        assertThat(info.getTitle()).isEqualTo(legacyTitle(doc)).isEqualTo(expectedTitle);
+        assertThat(info.getDateText()).isEqualTo(legacyDateText(doc)).isEqualTo(expectedDate);
+    }
+
+    private static String legacyTitle(Document doc) {
+        Element titleElement = doc.select("h1").first();
+        return titleElement != null ? titleElement.text() : "";
+    }
+
+    private static String legacyDateText(Document doc) {
+        for (String selector : LEGACY_DATE_SELECTORS) {
+            Element dateElement = doc.select(selector).first();
+            if (dateElement != null && !dateElement.text().trim().isEmpty()) {
+                return dateElement.text().trim();
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,89 @@
+package main;
+
+import dto.CourseDto;
+import dto.CourseTable;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import utils.RussianDateParser;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Инфраструктура")
+@Feature("Колоночное хранение курсов")
+@DisplayName("Выборки по датам в CourseTable")
+@Owner("Автоматизатор")
+@Severity(SeverityLevel.NORMAL)
+public class CourseTableTest {
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2025, 3, 1);
+    private static final LocalDate MARCH_10 = LocalDate.of(2025, 3, 10);
+    private static final LocalDate APRIL_1 = LocalDate.of(2025, 4, 1);
+
+    private final List<CourseDto> courses = List.of(
+            new CourseDto("Java", MARCH_10, "https://otus.ru/lessons/java/"),
+            new CourseDto("Kotlin", "https://otus.ru/lessons/kotlin/"),
+            new CourseDto("Go", MARCH_1, "https://otus.ru/lessons/go/"),
+            new CourseDto("Python", APRIL_1, "https://otus.ru/lessons/python/"),
+            new CourseDto("Rust", MARCH_1, "https://otus.ru/lessons/rust/"),
+            new CourseDto("Java", "https://otus.ru/lessons/java/")
+    );
+
+    @Test
+    @DisplayName("Границы диапазона включаются, курсы без даты не попадают ни в один диапазон")
+    public void indicesBetweenIncludesBoundsAndSkipsNoDateRows() {
+        CourseTable table = CourseTable.of(courses);
+
+        assertThat(table.indicesBetween(day(MARCH_1), day(MARCH_10))).containsExactly(0, 2, 4);
+        assertThat(table.indicesBetween(day(MARCH_10), day(APRIL_1))).containsExactly(0, 3);
+        assertThat(table.indicesBetween(day(MARCH_1) + 1, day(MARCH_10) - 1)).isEmpty();
+        assertThat(table.indicesBetween(Integer.MIN_VALUE, Integer.MAX_VALUE)).containsExactly(0, 2, 3, 4);
+        assertThat(table.indicesBetween(day(APRIL_1), day(MARCH_1))).isEmpty();
+        assertThat(table.indicesOn(CourseTable.NO_DATE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Самые ранние и поздние курсы не учитывают строки без даты")
+    public void earliestAndLatestIgnoreNoDateRows() {
+        CourseTable table = CourseTable.of(courses);
+
+        assertThat(table.minEpochDay()).isEqualTo(day(MARCH_1));
+        assertThat(table.maxEpochDay()).isEqualTo(day(APRIL_1));
+        assertThat(table.getEarliestCourses()).containsExactly(courses.get(2), courses.get(4));
+        assertThat(table.getLatestCourses()).containsExactly(courses.get(3));
+        assertThat(table.getCoursesWithDateCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Таблица только из курсов без даты")
+    public void tableWithoutDates() {
+        CourseTable table = new CourseTable.Builder(1)
+                .add("Kotlin", CourseTable.NO_DATE, "https://otus.ru/lessons/kotlin/")
+                .add("Scala", RussianDateParser.NO_DATE, "https://otus.ru/lessons/scala/")
+                .build();
+
+        assertThat(table.minEpochDay()).isEqualTo(CourseTable.NO_DATE);
+        assertThat(table.maxEpochDay()).isEqualTo(CourseTable.NO_DATE);
+        assertThat(table.getEarliestCourses()).isEmpty();
+        assertThat(table.getLatestCourses()).isEmpty();
+        assertThat(table.hasDate(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Строки восстанавливаются в исходные CourseDto, одинаковые строки хранятся один раз")
+    public void materializesRowsAndPoolsStrings() {
+        CourseTable table = CourseTable.of(courses);
+
+        assertThat(table.size()).isEqualTo(courses.size());
+        assertThat(table.materialize(new int[]{0, 1, 2, 3, 4, 5})).containsExactlyElementsOf(courses);
+        assertThat(table.get(1).hasDate()).isFalse();
+        assertThat(table.getDistinctStringCount()).isEqualTo(10);
+    }
+
+    private static int day(LocalDate date) {
+        return (int) date.toEpochDay();
+    }
+}
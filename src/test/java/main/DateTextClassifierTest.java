@@ -0,0 +1,94 @@
+package main;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import utils.DateTextClassifier;
+import utils.DateTextClassifier.Classification;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@Epic("Инфраструктура")
+@Feature("Разбор дат курсов")
+@DisplayName("Классификация текста даты карточки курса")
+@Owner("Автоматизатор")
+@Severity(SeverityLevel.NORMAL)
+public class DateTextClassifierTest {
+
+    static Stream<Arguments> texts() {
+        return Stream.of(
+                arguments("12 марта, 2025", Classification.DATED),
+                arguments("12 марта, 2025 · 4 месяца", Classification.DATED),
+                arguments("Старт 1 мая, 2025", Classification.DATED),
+                arguments("Объявлено позже", Classification.NO_DATE),
+                arguments("Дата уточняется", Classification.NO_DATE),
+                arguments("Старт будет объявлено скоро", Classification.NO_DATE),
+                arguments("Дата не указана", Classification.NO_DATE),
+                arguments("СКОРО ОБЪЯВИМ", Classification.NO_DATE),
+                arguments("Дата старта уточняется", Classification.NO_DATE),
+                arguments("12 марта, 2025 · дата уточняется", Classification.NO_DATE),
+                arguments("", Classification.NO_DATE),
+                arguments(null, Classification.NO_DATE),
+                arguments("В марте", Classification.UNPARSEABLE),
+                arguments("12 марта 2025", Classification.UNPARSEABLE),
+                arguments("12 МАРТА, 2025", Classification.UNPARSEABLE),
+                arguments("дата уточ няется", Classification.UNPARSEABLE)
+        );
+    }
+
+    @ParameterizedTest(name = "\"{0}\" -> {1}")
+    @MethodSource("texts")
+    @DisplayName("Класс текста совпадает с прежней проверкой isNoDateMessage")
+    public void classifiesLikeLegacyCheck(String text, Classification expected) {
+        assertThat(DateTextClassifier.classify(text)).isEqualTo(expected);
+        assertThat(DateTextClassifier.isNoDateMessage(text))
+                .isEqualTo(expected != Classification.DATED)
+                .isEqualTo(legacyIsNoDateMessage(text));
+    }
+
+    @Test
+    @DisplayName("Фраза \"нет даты\" находится и с неразрывным пробелом")
+    public void findsNoDatePhraseWithNbsp() {
+        assertThat(DateTextClassifier.classify("Дата\u00A0уточняется")).isEqualTo(Classification.NO_DATE);
+        assertThat(DateTextClassifier.classify("Объявлено\u00A0позже")).isEqualTo(Classification.NO_DATE);
+    }
+
+    @Test
+    @DisplayName("Часть даты - текст до разделителя \"·\"")
+    public void extractsDatePart() {
+        assertThat(DateTextClassifier.extractDatePart("12 марта, 2025 · 4 месяца")).isEqualTo("12 марта, 2025");
+        assertThat(DateTextClassifier.extractDatePart(" 12 марта, 2025 ")).isEqualTo("12 марта, 2025");
+        assertThat(DateTextClassifier.extractDatePart("· 4 месяца")).isEmpty();
+        assertThat(DateTextClassifier.extractDatePart(null)).isEmpty();
+    }
+
+    /**
+     * Проверка из CatalogPage/JsoupCourseParser до выделения классификатора
+     */
+    private static boolean legacyIsNoDateMessage(String text) {
+        if (text == null || text.isEmpty()) {
+            return true;
+        }
+
+        String lowerText = text.toLowerCase();
+
+        if (lowerText.contains("объявлено позже") ||
+                lowerText.contains("дата уточняется") ||
+                lowerText.contains("будет объявлено") ||
+                lowerText.contains("не указана") ||
+                lowerText.contains("скоро объявим") ||
+                lowerText.contains("дата старта уточняется")) {
+            return true;
+        }
+
+        boolean hasValidFormat = text.matches(".*\\d{1,2}\\s+[а-я]+,\\s+\\d{4}.*");
+
+        return !hasValidFormat;
+    }
+}
@@ -0,0 +1,102 @@
+package main;
+
+import dto.CourseDto;
+import dto.ParsedCatalog;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Инфраструктура")
+@Feature("Разбор каталога")
+@DisplayName("Равенство курсов и отбрасывание повторяющихся карточек")
+@Owner("Автоматизатор")
+@Severity(SeverityLevel.NORMAL)
+public class ParsedCatalogTest {
+
+    private static final LocalDate MARCH_12 = LocalDate.of(2025, 3, 12);
+    private static final LocalDate MAY_1 = LocalDate.of(2025, 5, 1);
+
+    @Test
+    @DisplayName("Курсы равны при совпадении названия, даты и URL")
+    public void courseEqualityUsesTitleDateAndUrl() {
+        CourseDto java = new CourseDto("Java", MARCH_12, "https://otus.ru/lessons/java/");
+
+        assertThat(java).isEqualTo(new CourseDto("Java", MARCH_12, "https://otus.ru/lessons/java/"))
+                .hasSameHashCodeAs(new CourseDto("Java", MARCH_12, "https://otus.ru/lessons/java/"));
+        assertThat(java).isNotEqualTo(new CourseDto("Java", MAY_1, "https://otus.ru/lessons/java/"));
+        assertThat(java).isNotEqualTo(new CourseDto("Java", "https://otus.ru/lessons/java/"));
+        assertThat(java).isNotEqualTo(new CourseDto("Java Pro", MARCH_12, "https://otus.ru/lessons/java/"));
+
+        CourseDto withQuery = new CourseDto("Java", MARCH_12, "https://otus.ru/lessons/java/?utm=1");
+        assertThat(withQuery).hasSameHashCodeAs(java).isNotEqualTo(java);
+        assertThat(new CourseDto(null, null)).isEqualTo(new CourseDto(null, null));
+    }
+
+    @Test
+    @DisplayName("Slug - последний сегмент пути без query и fragment")
+    public void slugOfUrl() {
+        assertThat(CourseDto.slugOf("https://otus.ru/lessons/java/?a=1#top")).isEqualTo("java");
+        assertThat(CourseDto.slugOf("https://otus.ru/lessons/java")).isEqualTo("java");
+        assertThat(CourseDto.slugOf("https://otus.ru/lessons/java//")).isEqualTo("java");
+        assertThat(CourseDto.slugOf("java#a/b")).isEqualTo("java");
+        assertThat(CourseDto.slugOf("")).isEmpty();
+        assertThat(CourseDto.slugOf(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Повторы отбрасываются с сохранением порядка первого появления")
+    public void dropsDuplicateCards() {
+        CourseDto java = new CourseDto("Java", MARCH_12, "https://otus.ru/lessons/java/");
+        CourseDto kotlin = new CourseDto("Kotlin", "https://otus.ru/lessons/kotlin/");
+        CourseDto go = new CourseDto("Go", MAY_1, "https://otus.ru/lessons/go/");
+
+        ParsedCatalog catalog = new ParsedCatalog(List.of(
+                java, kotlin,
+                new CourseDto("Java", MARCH_12, "https://otus.ru/lessons/java/"),
+                go,
+                new CourseDto("Kotlin", "https://otus.ru/lessons/kotlin/"),
+                java
+        ));
+
+        assertThat(catalog.getDuplicatesDropped()).isEqualTo(3);
+        assertThat(catalog.size()).isEqualTo(3);
+        assertThat(catalog.getCourses()).containsExactly(java, kotlin, go);
+        assertThat(catalog.getCoursesWithoutDate()).containsExactly(kotlin);
+        assertThat(catalog.findByTitle("Java")).containsExactly(java);
+        assertThat(catalog.getEarliestCourses()).containsExactly(java);
+        assertThat(catalog.getLatestCourses()).containsExactly(go);
+    }
+
+    @Test
+    @DisplayName("Один курс в разных датах потоков не считается повтором")
+    public void keepsSameCourseWithDifferentDates() {
+        ParsedCatalog catalog = new ParsedCatalog(List.of(
+                new CourseDto("Java", MARCH_12, "https://otus.ru/lessons/java/"),
+                new CourseDto("Java", MAY_1, "https://otus.ru/lessons/java/")
+        ));
+
+        assertThat(catalog.getDuplicatesDropped()).isZero();
+        assertThat(catalog.findByTitle("Java")).hasSize(2);
+        assertThat(catalog.getCoursesBetween(MARCH_12, MAY_1)).hasSize(2);
+        assertThat(catalog.getCoursesBetween(MAY_1, MARCH_12)).isEmpty();
+        Set<CourseDto> unique = new HashSet<>(catalog.getCourses());
+        assertThat(unique).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Пустой каталог")
+    public void emptyCatalog() {
+        ParsedCatalog catalog = new ParsedCatalog(List.of());
+
+        assertThat(catalog.getDuplicatesDropped()).isZero();
+        assertThat(catalog.getEarliestDate()).isEmpty();
+        assertThat(catalog.getLatestCourses()).isEmpty();
+    }
+}
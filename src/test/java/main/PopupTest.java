@@ -8,6 +8,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import pages.CatalogPage;
 import pages.MainPage;
+import testdata.TestDataManager;
+
+import java.util.regex.Pattern;
 
 import static io.qameta.allure.Allure.step;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,7 +43,7 @@ public class PopupTest {
 
             assertThat(currentUrl)
                     .as("Должна быть открыта главная страница Otus")
-                    .isEqualTo("https://otus.ru/");
+                    .isEqualTo(TestDataManager.getBaseUrl() + "/");
         });
 
         step("Шаг 2: Навести курсор на меню 'Обучение'", () -> {
@@ -76,7 +79,7 @@ public class PopupTest {
 
             assertThat(currentUrl)
                     .as("Должен быть открыт каталог курсов")
-                    .containsPattern("(https://otus\\.ru/catalog/|https://otus\\.ru/categories/)");
+                    .containsPattern(Pattern.quote(TestDataManager.getBaseUrl()) + "/(catalog|categories)/");
 
             String actualCategorySlug = catalogPage.getCategorySlugFromUrl();
 
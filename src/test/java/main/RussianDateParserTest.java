@@ -0,0 +1,75 @@
+package main;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import utils.RussianDateParser;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@Epic("Инфраструктура")
+@Feature("Разбор дат курсов")
+@DisplayName("Разбор дат вида \"12 марта, 2025\"")
+@Owner("Автоматизатор")
+@Severity(SeverityLevel.NORMAL)
+public class RussianDateParserTest {
+
+    static Stream<Arguments> texts() {
+        return Stream.of(
+                arguments("12 марта, 2025", LocalDate.of(2025, 3, 12)),
+                arguments("1 января, 2024 · 4 месяца", LocalDate.of(2024, 1, 1)),
+                arguments("  · 5 мая 2025", LocalDate.of(2025, 5, 5)),
+                arguments("• 30 июня, 2025", LocalDate.of(2025, 6, 30)),
+                arguments("12 МАРТА, 2025", LocalDate.of(2025, 3, 12)),
+                arguments("12 Марта, 2025", LocalDate.of(2025, 3, 12)),
+                arguments("12\u00A0марта,\u00A02025", LocalDate.of(2025, 3, 12)),
+                arguments("29 февраля, 2024", LocalDate.of(2024, 2, 29)),
+                arguments("29 февраля, 2000", LocalDate.of(2000, 2, 29)),
+                arguments("29 февраля, 2025", null),
+                arguments("29 февраля, 1900", null),
+                arguments("31 апреля, 2025", null),
+                arguments("0 мая, 2025", null),
+                arguments("32 мая, 2025", null),
+                arguments("123 мая, 2025", null),
+                arguments("12 марта, 0001", LocalDate.of(1, 3, 12)),
+                arguments("31 декабря, 9999", LocalDate.of(9999, 12, 31)),
+                arguments("12 марта, 999", null),
+                arguments("12 марта, 20255", null),
+                arguments("12 марта", null),
+                arguments("12 март, 2025", null),
+                arguments("12 мартаа, 2025", null),
+                arguments("12марта, 2025", null),
+                arguments("Дата уточняется", null),
+                arguments("", null),
+                arguments(null, null)
+        );
+    }
+
+    @ParameterizedTest(name = "\"{0}\" -> {1}")
+    @MethodSource("texts")
+    @DisplayName("Дата или null для текста карточки")
+    public void parsesCardDateText(String text, LocalDate expected) {
+        assertThat(RussianDateParser.parse(text)).isEqualTo(expected);
+        assertThat(RussianDateParser.parseEpochDay(text))
+                .isEqualTo(expected != null ? expected.toEpochDay() : RussianDateParser.NO_DATE);
+    }
+
+    @Test
+    @DisplayName("Каждый день 1899-2101 разбирается так же, как его форматирует DateTimeFormatter")
+    public void matchesDateTimeFormatterForEveryDay() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d MMMM, yyyy", Locale.of("ru"));
+        for (LocalDate date = LocalDate.of(1899, 1, 1); date.getYear() <= 2101; date = date.plusDays(1)) {
+            String text = formatter.format(date);
+            assertThat(RussianDateParser.parseEpochDay(text)).as(text).isEqualTo(date.toEpochDay());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package main;
+
+import benchmarks.CatalogHtmlGenerator;
+import dto.CourseDto;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import utils.JsoupCourseParser;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Инфраструктура")
+@Feature("Разбор каталога")
+@DisplayName("Потоковый разбор каталога")
+@Owner("Автоматизатор")
+@Severity(SeverityLevel.NORMAL)
+public class StreamingCatalogParseTest {
+
+    @Test
+    @DisplayName("Потоковый разбор даёт те же курсы, что и разбор документа целиком")
+    public void streamingMatchesDocumentParse() {
+        String html = CatalogHtmlGenerator.generate(500);
+
+        List<CourseDto> streamed = new ArrayList<>();
+        long count = JsoupCourseParser.streamCourses(new StringReader(html), streamed::add);
+
+        assertThat(count).isEqualTo(500);
+        assertThat(streamed).containsExactlyElementsOf(JsoupCourseParser.parseCoursesFromHtml(html));
+    }
+
+    @Test
+    @DisplayName("Карточка внутри обёрток и рядом со скриптами разбирается целиком")
+    public void cardNestedInWrappers() {
+        String html = "<html><body><header><a href='/'>otus</a></header>"
+                + "<section><div><div class='item'><script>var a = 1;</script>"
+                + "<a class='sc-zzdkm7-0' href='/lessons/java/'>"
+                + "<h6 class='sc-1yg5ro0-1'><div class='sc-hrqzy3-1'>Java</div></h6>"
+                + "<div class='sc-157icee-1'><div class='sc-hrqzy3-1'>12 марта, 2025 · 4 месяца</div></div>"
+                + "</a></div></div><footer>Подвал</footer></section></body></html>";
+
+        List<CourseDto> streamed = new ArrayList<>();
+        JsoupCourseParser.streamCourses(new StringReader(html), streamed::add);
+
+        assertThat(streamed).containsExactlyElementsOf(JsoupCourseParser.parseCoursesFromHtml(html));
+        assertThat(streamed).singleElement().satisfies(course -> {
+            assertThat(course.getTitle()).isEqualTo("Java");
+            assertThat(course.hasDate()).isTrue();
+        });
+    }
+}